@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Rows/second when importing N tasks: N single POST /tasks vs chunked POST /tasks/bulk.
+# Needs a running backend (any profile).
+#
+#   bench/bulk-import.sh [tasks=5000] [bulk-chunk=1000] [base=http://localhost:8082/api]
+#
+# Results: target/bench/bulk-import.csv
+set -euo pipefail
+
+TASKS=${1:-5000}
+CHUNK=${2:-1000}
+BASE=${3:-http://localhost:8082/api}
+OUT=target/bench
+mkdir -p "$OUT"
+CSV="$OUT/bulk-import.csv"
+
+json() { python3 -c "import sys,json;print(json.load(sys.stdin)$1)"; }
+now_ms() { date +%s%3N; }
+
+TOKEN=$(curl -s -X POST "$BASE/auth/register" -H 'Content-Type: application/json' \
+  -d "{\"email\":\"bulk$RANDOM$RANDOM@local.dev\",\"password\":\"bench\",\"fullName\":\"Bench\"}" | json '["token"]')
+new_project() {
+  curl -s -X POST "$BASE/projects" -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+    -d "{\"title\":\"$1\"}" | json '["id"]'
+}
+
+# --- one request per task (sequential, like the current import)
+P1=$(new_project single)
+start=$(now_ms)
+for i in $(seq 1 "$TASKS"); do
+  curl -s -o /dev/null -X POST "$BASE/projects/$P1/tasks" -H "Authorization: Bearer $TOKEN" \
+    -H 'Content-Type: application/json' -d "{\"title\":\"task $i\",\"description\":\"imported task $i\"}"
+done
+single_ms=$(( $(now_ms) - start ))
+
+# --- bulk endpoint, CHUNK tasks per request
+P2=$(new_project bulk)
+body_file=$(mktemp)
+start=$(now_ms)
+for ((from = 1; from <= TASKS; from += CHUNK)); do
+  to=$(( from + CHUNK - 1 < TASKS ? from + CHUNK - 1 : TASKS ))
+  python3 -c "import json,sys; a,b=int(sys.argv[1]),int(sys.argv[2]); \
+print(json.dumps({'tasks':[{'title':f'task {i}','description':f'imported task {i}'} for i in range(a,b+1)]}))" \
+    "$from" "$to" > "$body_file"
+  curl -s -o /dev/null -X POST "$BASE/projects/$P2/tasks/bulk" -H "Authorization: Bearer $TOKEN" \
+    -H 'Content-Type: application/json' --data-binary @"$body_file"
+done
+bulk_ms=$(( $(now_ms) - start ))
+rm -f "$body_file"
+
+echo "mode,tasks,elapsed_ms,rows_per_s" > "$CSV"
+awk -v n="$TASKS" -v s="$single_ms" -v b="$bulk_ms" -v c="$CHUNK" 'BEGIN {
+  printf "single,%d,%d,%.1f\n", n, s, n * 1000 / s
+  printf "bulk(%d),%d,%d,%.1f\n", c, n, b, n * 1000 / b
+}' | tee -a "$CSV"
+
+echo "progress (bulk project): $(curl -s "$BASE/projects/progress?ids=$P2" -H "Authorization: Bearer $TOKEN")"
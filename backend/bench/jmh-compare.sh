@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# Compare two JMH JSON results (e.g. two commits), one CSV row per benchmark + params.
+#
+#   git checkout <base> && ./mvnw -Pjmh test-compile exec:exec -Djmh.result=target/jmh-base.json
+#   git checkout <head> && ./mvnw -Pjmh test-compile exec:exec -Djmh.result=target/jmh-head.json
+#   bench/jmh-compare.sh target/jmh-base.json target/jmh-head.json
+#
+# delta_pct > 0 means slower for time modes (avgt/sample/ss), faster for thrpt.
+set -euo pipefail
+
+BASE=${1:?base result json}
+HEAD=${2:?head result json}
+
+python3 - "$BASE" "$HEAD" <<'PY'
+import json, math, sys
+
+def num(v):
+    try:
+        v = float(v)
+    except (TypeError, ValueError):
+        return None
+    return None if math.isnan(v) else v
+
+def load(path):
+    out = {}
+    for r in json.load(open(path)):
+        params = ";".join(f"{k}={v}" for k, v in sorted((r.get("params") or {}).items()))
+        m = r["primaryMetric"]
+        out[(r["benchmark"].rsplit(".", 2)[-2] + "." + r["benchmark"].rsplit(".", 1)[-1], params, r["mode"])] = \
+            (num(m["score"]), num(m.get("scoreError")), m["scoreUnit"])
+    return out
+
+base, head = load(sys.argv[1]), load(sys.argv[2])
+print("benchmark,params,mode,unit,base,base_err,head,head_err,delta_pct")
+for key in sorted(base.keys() | head.keys()):
+    b, h = base.get(key), head.get(key)
+    unit = (b or h)[2]
+    delta = f"{(h[0] - b[0]) * 100 / b[0]:+.1f}" if b and h and b[0] else ""
+    fmt = lambda v: ("", "") if v is None else (f"{v[0]:.3f}", "" if v[1] is None else f"{v[1]:.3f}")
+    print(",".join([key[0], key[1], key[2], unit, *fmt(b), *fmt(h), delta]))
+PY
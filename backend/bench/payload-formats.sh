@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# Bytes on the wire and response time of the large reads in JSON, Smile and CBOR, with and without gzip.
+# Needs a running backend (any profile) with server.compression enabled (default).
+#
+#   bench/payload-formats.sh [tasks=1000] [projects=200] [requests=50] [base=http://localhost:8082/api]
+#
+# Serialization time alone: ./mvnw -Pjmh test-compile exec:exec -Djmh.include=PayloadFormat
+# Results: target/bench/payload-formats.csv
+set -euo pipefail
+
+TASKS=${1:-1000}
+PROJECTS=${2:-200}
+REQUESTS=${3:-50}
+BASE=${4:-http://localhost:8082/api}
+OUT=target/bench
+mkdir -p "$OUT"
+CSV="$OUT/payload-formats.csv"
+
+json() { python3 -c "import sys,json;print(json.load(sys.stdin)$1)"; }
+
+TOKEN=$(curl -s -X POST "$BASE/auth/register" -H 'Content-Type: application/json' \
+  -d "{\"email\":\"fmt$RANDOM$RANDOM@local.dev\",\"password\":\"bench\",\"fullName\":\"Bench\"}" | json '["token"]')
+AUTH="Authorization: Bearer $TOKEN"
+for i in $(seq 1 "$PROJECTS"); do
+  PROJECT_ID=$(curl -s -X POST "$BASE/projects" -H "$AUTH" -H 'Content-Type: application/json' \
+    -d "{\"title\":\"project $i\",\"description\":\"payload format bench\"}" | json '["id"]')
+done
+python3 -c "import json; print(json.dumps({'tasks':[{'title':f'task {i}','description':f'description of task {i}','dueDate':f'2026-0{1 + i % 9}-15'} for i in range($TASKS)]}))" \
+  | curl -s -o /dev/null -X POST "$BASE/projects/$PROJECT_ID/tasks/bulk" -H "$AUTH" \
+      -H 'Content-Type: application/json' --data-binary @-
+
+echo "endpoint,format,encoding,bytes,avg_ms" > "$CSV"
+for endpoint in "/projects" "/projects/$PROJECT_ID/tasks/paged?size=$TASKS"; do
+  name=${endpoint//$PROJECT_ID/{id\}}; name=${name%%\?*}
+  for format in application/json application/x-jackson-smile application/cbor; do
+    for encoding in identity gzip; do
+      bytes=$(curl -s -o /dev/null -w '%{size_download}' -H "$AUTH" -H "Accept: $format" -H "Accept-Encoding: $encoding" "$BASE$endpoint")
+      total=0
+      for _ in $(seq 1 "$REQUESTS"); do
+        t=$(curl -s -o /dev/null -w '%{time_total}' -H "$AUTH" -H "Accept: $format" -H "Accept-Encoding: $encoding" "$BASE$endpoint")
+        total=$(python3 -c "print($total + $t)")
+      done
+      avg=$(python3 -c "print(f'{$total * 1000 / $REQUESTS:.2f}')")
+      echo "$name,${format#application/},$encoding,$bytes,$avg" | tee -a "$CSV"
+    done
+  done
+done
+echo "results: $CSV"
@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+# Compare the embedded (H2 file) profile against the MySQL profile:
+# request latency (avg/p50/p95 per endpoint) and process RSS after the run.
+#
+#   ./mvnw -DskipTests package
+#   docker compose up -d db              # only needed for the mysql profile (port 3307)
+#   bench/persistence-compare.sh [tasks=2000] [requests=300] [profiles="embedded mysql"]
+#
+# Results: target/bench/persistence.csv
+set -euo pipefail
+
+TASKS=${1:-2000}
+REQUESTS=${2:-300}
+PROFILES=${3:-"embedded mysql"}
+PORT=${BENCH_PORT:-18082}
+BASE="http://localhost:${PORT}/api"
+JAR=$(ls target/projectmanager-*.jar | grep -v original | head -1)
+OUT=target/bench
+mkdir -p "$OUT"
+CSV="$OUT/persistence.csv"
+echo "profile,endpoint,requests,avg_ms,p50_ms,p95_ms,rss_mb" > "$CSV"
+
+json() { python3 -c "import sys,json;print(json.load(sys.stdin)$1)"; }
+
+start_app() {
+  local profile=$1
+  local args=(--server.port="$PORT" --spring.jpa.show-sql=false --logging.level.root=WARN)
+  if [ "$profile" = "embedded" ]; then
+    rm -rf "$OUT/h2"
+    SPRING_PROFILES_ACTIVE=embedded EMBEDDED_DB_PATH="./$OUT/h2/db" java -jar "$JAR" "${args[@]}" > "$OUT/app-$profile.log" 2>&1 &
+  else
+    DB_URL="${BENCH_MYSQL_URL:-jdbc:mysql://localhost:3307/hahn_bench?createDatabaseIfNotExist=true&useSSL=false&allowPublicKeyRetrieval=true}" \
+      java -jar "$JAR" "${args[@]}" > "$OUT/app-$profile.log" 2>&1 &
+  fi
+  APP_PID=$!
+  for _ in $(seq 1 120); do
+    kill -0 "$APP_PID" 2>/dev/null || break
+    if [ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE/auth/login" -X POST -H 'Content-Type: application/json' -d '{}')" != "000" ]; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "app did not start ($profile), see $OUT/app-$profile.log" >&2
+  exit 1
+}
+
+# prints avg,p50,p95 (ms) of N sequential GETs
+measure() {
+  local url=$1 n=$2
+  for _ in $(seq 1 "$n"); do
+    curl -s -o /dev/null -w "%{time_total}\n" "$url" -H "Authorization: Bearer $TOKEN"
+  done | sort -n | awk '{ v[NR] = $1 * 1000; s += v[NR] }
+    END { p50 = int(NR * 0.50); p95 = int(NR * 0.95); if (p50 < 1) p50 = 1; if (p95 < 1) p95 = 1;
+          printf "%.2f,%.2f,%.2f", s / NR, v[p50], v[p95] }'
+}
+
+for profile in $PROFILES; do
+  echo "== $profile"
+  start_app "$profile"
+
+  TOKEN=$(curl -s -X POST "$BASE/auth/register" -H 'Content-Type: application/json' \
+    -d "{\"email\":\"bench$RANDOM$RANDOM@local.dev\",\"password\":\"bench\",\"fullName\":\"Bench\"}" | json '["token"]')
+  PROJECT_ID=$(curl -s -X POST "$BASE/projects" -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+    -d '{"title":"bench","description":"persistence benchmark"}' | json '["id"]')
+
+  seq 1 "$TASKS" | xargs -P 8 -I{} curl -s -o /dev/null -X POST "$BASE/projects/$PROJECT_ID/tasks" \
+    -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+    -d '{"title":"task {}","description":"benchmark task {}"}'
+
+  measure "$BASE/projects/$PROJECT_ID/tasks/paged?size=50" 50 > /dev/null   # warm-up
+
+  for endpoint in "projects" "projects/progress" "projects/$PROJECT_ID" \
+                  "projects/$PROJECT_ID/tasks/paged?size=50" "projects/$PROJECT_ID/tasks/cursor?size=50"; do
+    stats=$(measure "$BASE/$endpoint" "$REQUESTS")
+    rss=$(( $(ps -o rss= -p "$APP_PID") / 1024 ))
+    echo "$profile,${endpoint//$PROJECT_ID/{id\}},$REQUESTS,$stats,$rss" | tee -a "$CSV"
+  done
+
+  kill "$APP_PID"; wait "$APP_PID" 2>/dev/null || true
+done
+
+echo "results: $CSV"
@@ -0,0 +1,121 @@
+#!/usr/bin/env bash
+# Throughput and latency (p50/p99) of the TaskController endpoints under concurrent load:
+# Tomcat platform thread pool (default) vs virtual threads (profile "vthreads").
+# Both runs use the same jar, the same JVM and the same DB pool size, only the threading model changes.
+#
+#   ./mvnw -DskipTests package
+#   docker compose up -d db              # default profile is mysql (port 3307)
+#   JAVA=/path/to/jdk-21/bin/java bench/virtual-threads.sh [concurrency="50 200 800"] [seconds=20] [pool=20]
+#
+# Virtual threads need a JDK 21+ runtime (JAVA). BENCH_DB_PROFILE=embedded runs on H2 instead,
+# but H2 answers in-process, so threads hardly ever block on I/O and both modes should look alike.
+#
+# Results: target/bench/virtual-threads.csv
+set -euo pipefail
+
+CONCURRENCY=${1:-"50 200 800"}
+SECONDS_PER_RUN=${2:-20}
+POOL=${3:-20}
+JAVA=${JAVA:-java}
+DB_PROFILE=${BENCH_DB_PROFILE:-mysql}
+PORT=${BENCH_PORT:-18083}
+BASE="http://localhost:${PORT}/api"
+JAR=$(ls target/projectmanager-*.jar | grep -v original | head -1)
+OUT=target/bench
+mkdir -p "$OUT"
+CSV="$OUT/virtual-threads.csv"
+echo "mode,concurrency,endpoint,requests,errors,rps,p50_ms,p99_ms" > "$CSV"
+
+json() { python3 -c "import sys,json;print(json.load(sys.stdin)$1)"; }
+
+start_app() {
+  local mode=$1
+  local profiles=""
+  [ "$DB_PROFILE" = "embedded" ] && profiles="embedded"
+  [ "$mode" = "virtual" ] && profiles="${profiles:+$profiles,}vthreads"
+  local args=(--server.port="$PORT" --spring.jpa.show-sql=false --logging.level.root=WARN
+              --spring.datasource.hikari.maximum-pool-size="$POOL")
+  if [ "$DB_PROFILE" = "embedded" ]; then
+    rm -rf "$OUT/h2-vt"
+    export EMBEDDED_DB_PATH="./$OUT/h2-vt/db"
+  else
+    export DB_URL="${BENCH_MYSQL_URL:-jdbc:mysql://localhost:3307/hahn_bench?createDatabaseIfNotExist=true&useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true}"
+  fi
+  SPRING_PROFILES_ACTIVE="$profiles" "$JAVA" -jar "$JAR" "${args[@]}" > "$OUT/app-vt-$mode.log" 2>&1 &
+  APP_PID=$!
+  for _ in $(seq 1 120); do
+    kill -0 "$APP_PID" 2>/dev/null || break
+    if [ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE/auth/login" -X POST -H 'Content-Type: application/json' -d '{}')" != "000" ]; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "app did not start ($mode), see $OUT/app-vt-$mode.log" >&2
+  exit 1
+}
+
+# closed-loop load: C keep-alive clients, each sends the next request when the previous one answered
+load() {
+  python3 - "$@" <<'PY'
+import http.client, json, random, sys, threading, time
+host, port, token, project, conc, secs, mode = sys.argv[1], int(sys.argv[2]), sys.argv[3], sys.argv[4], int(sys.argv[5]), int(sys.argv[6]), sys.argv[7]
+H = {"Authorization": f"Bearer {token}", "Content-Type": "application/json"}
+# TaskController mix: mostly reads, some writes
+MIX = [("GET", f"/api/projects/{project}/tasks/paged?size=50", None, "tasks/paged", 40),
+       ("GET", f"/api/projects/{project}/tasks/cursor?size=50", None, "tasks/cursor", 40),
+       ("POST", f"/api/projects/{project}/tasks", '{"title":"vt","description":"virtual threads bench"}', "tasks(create)", 20)]
+WEIGHTS = [m[4] for m in MIX]
+lat = {m[3]: [] for m in MIX}; err = {m[3]: 0 for m in MIX}; lock = threading.Lock()
+deadline = time.monotonic() + secs
+
+def client():
+    conn = http.client.HTTPConnection(host, port, timeout=30)
+    mine = {m[3]: [] for m in MIX}; bad = {m[3]: 0 for m in MIX}
+    while time.monotonic() < deadline:
+        method, path, body, name, _ = random.choices(MIX, WEIGHTS)[0]
+        t0 = time.perf_counter()
+        try:
+            conn.request(method, path, body=body, headers=H)
+            r = conn.getresponse(); r.read()
+            ok = r.status < 400
+        except Exception:
+            ok = False
+            conn.close(); conn = http.client.HTTPConnection(host, port, timeout=30)
+        (mine[name].append((time.perf_counter() - t0) * 1000) if ok else bad.__setitem__(name, bad[name] + 1))
+    with lock:
+        for k in mine: lat[k] += mine[k]; err[k] += bad[k]
+
+threads = [threading.Thread(target=client) for _ in range(conc)]
+for t in threads: t.start()
+for t in threads: t.join()
+
+def pct(v, p): return v[min(len(v) - 1, int(len(v) * p))] if v else 0.0
+rows = list(lat.items()) + [("all", [x for v in lat.values() for x in v])]
+for name, v in rows:
+    v.sort(); e = sum(err.values()) if name == "all" else err[name]
+    print(f"{mode},{conc},{name},{len(v)},{e},{len(v) / secs:.1f},{pct(v, .50):.2f},{pct(v, .99):.2f}")
+PY
+}
+
+for mode in platform virtual; do
+  echo "== $mode"
+  start_app "$mode"
+  grep -h "virtual threads\|platform thread pool" "$OUT/app-vt-$mode.log" || true
+
+  TOKEN=$(curl -s -X POST "$BASE/auth/register" -H 'Content-Type: application/json' \
+    -d "{\"email\":\"vt$RANDOM$RANDOM@local.dev\",\"password\":\"bench\",\"fullName\":\"Bench\"}" | json '["token"]')
+  PROJECT_ID=$(curl -s -X POST "$BASE/projects" -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+    -d '{"title":"vt bench"}' | json '["id"]')
+  python3 -c "import json; print(json.dumps({'tasks':[{'title':f'task {i}','description':'seed'} for i in range(2000)]}))" \
+    | curl -s -o /dev/null -X POST "$BASE/projects/$PROJECT_ID/tasks/bulk" -H "Authorization: Bearer $TOKEN" \
+        -H 'Content-Type: application/json' --data-binary @-
+
+  load localhost "$PORT" "$TOKEN" "$PROJECT_ID" 20 5 warmup > /dev/null
+  for c in $CONCURRENCY; do
+    load localhost "$PORT" "$TOKEN" "$PROJECT_ID" "$c" "$SECONDS_PER_RUN" "$mode" | tee -a "$CSV"
+  done
+
+  kill "$APP_PID"; wait "$APP_PID" 2>/dev/null || true
+done
+
+echo "results: $CSV"
@@ -0,0 +1,85 @@
+package com.hahn.projectmanager.bench;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.dto.TaskSummary;
+import com.hahn.projectmanager.entity.Project;
+import com.hahn.projectmanager.entity.Task;
+
+/**
+ * Response serialization with the mapper Spring Boot builds by default: a Project entity holding
+ * N tasks (the tasks collection is @JsonIgnore, it must cost nothing), a task list as entities
+ * and as projections, and one page of tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int tasks;
+
+    private ObjectMapper mapper;
+    private Project project;
+    private List<Task> taskEntities;
+    private List<TaskSummary> taskSummaries;
+    private Page<TaskSummary> page;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+
+        project = Project.builder().id(1L).title("Bench project").description("serialization benchmark")
+                .totalTasks(tasks).build();
+        taskEntities = new ArrayList<>(tasks);
+        taskSummaries = new ArrayList<>(tasks);
+        LocalDate due = LocalDate.of(2026, 1, 1);
+        for (long i = 0; i < tasks; i++) {
+            Task t = Task.builder().id(i).title("task " + i).description("description of task " + i)
+                    .dueDate(due.plusDays(i % 60)).completed(i % 3 == 0).project(project).build();
+            taskEntities.add(t);
+            taskSummaries.add(new TaskSummary(t.getId(), t.getTitle(), t.getDescription(), t.getDueDate(),
+                    t.isCompleted(), project.getId()));
+        }
+        project.setTasks(taskEntities);
+        // ce que renvoie GET /tasks/paged
+        page = new PageImpl<>(taskSummaries, PageRequest.of(0, tasks), tasks * 10L);
+    }
+
+    @Benchmark
+    public byte[] projectWithTasks() throws Exception {
+        return mapper.writeValueAsBytes(project);
+    }
+
+    @Benchmark
+    public byte[] taskEntities() throws Exception {
+        return mapper.writeValueAsBytes(taskEntities);
+    }
+
+    @Benchmark
+    public byte[] taskSummaries() throws Exception {
+        return mapper.writeValueAsBytes(taskSummaries);
+    }
+
+    @Benchmark
+    public byte[] taskPage() throws Exception {
+        return mapper.writeValueAsBytes(page);
+    }
+}
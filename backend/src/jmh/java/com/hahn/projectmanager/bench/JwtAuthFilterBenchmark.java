@@ -0,0 +1,59 @@
+package com.hahn.projectmanager.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.hahn.projectmanager.security.CustomUserDetailsService;
+import com.hahn.projectmanager.security.JwtAuthFilter;
+
+/**
+ * Whole JwtAuthFilter pass for one request: header parsing, token verification
+ * (cache hit or full HMAC check), authentication set in the SecurityContext.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthFilterBenchmark {
+
+    // false: cache des tokens vérifiés désactivé, chaque requête vérifie la signature
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    private JwtAuthFilter filter;
+    private String header;
+
+    @Setup
+    public void setUp() {
+        var jwtUtil = Tokens.jwtUtil(tokenCache);
+        // le token porte l'uid: le UserDetailsService (et donc la DB) n'est jamais appelé
+        filter = new JwtAuthFilter(jwtUtil, new CustomUserDetailsService(null));
+        header = "Bearer " + jwtUtil.generateToken(42L, "bench@local.dev", List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        request.setServletPath("/api/projects");
+        request.addHeader("Authorization", header);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
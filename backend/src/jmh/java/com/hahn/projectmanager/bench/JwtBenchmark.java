@@ -0,0 +1,50 @@
+package com.hahn.projectmanager.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.hahn.projectmanager.security.JwtUser;
+import com.hahn.projectmanager.security.JwtUtil;
+
+/**
+ * Token issue and verification. parseUserCached is the steady-state path of every
+ * authenticated request (verified-token cache hit), extractEmail always checks the HMAC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = Tokens.jwtUtil(true);
+        token = jwtUtil.generateToken(42L, "bench@local.dev", List.of("ROLE_USER"));
+        jwtUtil.parseUser(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(42L, "bench@local.dev", List.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(token);
+    }
+
+    @Benchmark
+    public JwtUser parseUserCached() {
+        return jwtUtil.parseUser(token);
+    }
+}
@@ -0,0 +1,96 @@
+package com.hahn.projectmanager.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.hahn.projectmanager.dto.ProjectSummary;
+import com.hahn.projectmanager.dto.TaskSummary;
+
+/**
+ * JSON vs Smile vs CBOR for the two big read payloads (a page of tasks, the project list),
+ * with and without gzip (server.compression). Time per response here; the encoded sizes are
+ * printed once per trial ("wire bytes ..."), bench/payload-formats.sh measures them over HTTP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PayloadFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private ObjectMapper mapper;
+    private Page<TaskSummary> taskPage;
+    private List<ProjectSummary> projects;
+
+    @Setup
+    public void setUp() throws IOException {
+        // mêmes réglages que les converters de l'appli (dates ISO)
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        mapper = builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+        List<TaskSummary> tasks = new ArrayList<>(rows);
+        projects = new ArrayList<>(rows);
+        LocalDate due = LocalDate.of(2026, 1, 1);
+        for (long i = 0; i < rows; i++) {
+            tasks.add(new TaskSummary(i, "task " + i, "description of task " + i, due.plusDays(i % 60), i % 3 == 0, 1L));
+            projects.add(new ProjectSummary(i, "project " + i, "description of project " + i, 50, i % 50));
+        }
+        taskPage = new PageImpl<>(tasks, PageRequest.of(0, rows), rows * 10L);
+
+        System.out.printf("wire bytes format=%s gzip=%s rows=%d: taskPage=%d projectList=%d%n",
+                format, gzip, rows, taskPage().length, projectList().length);
+    }
+
+    @Benchmark
+    public byte[] taskPage() throws IOException {
+        return encode(taskPage);
+    }
+
+    @Benchmark
+    public byte[] projectList() throws IOException {
+        return encode(projects);
+    }
+
+    private byte[] encode(Object value) throws IOException {
+        if (!gzip) {
+            return mapper.writeValueAsBytes(value);
+        }
+        // comme Tomcat: le sérialiseur écrit directement dans le flux compressé
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+        try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+            mapper.writeValue(zip, value);
+        }
+        return out.toByteArray();
+    }
+}
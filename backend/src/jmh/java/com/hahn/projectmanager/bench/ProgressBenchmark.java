@@ -0,0 +1,87 @@
+package com.hahn.projectmanager.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.hahn.projectmanager.ProjectmanagerApplication;
+import com.hahn.projectmanager.dto.ProgressResponse;
+import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.ProjectProgressResponse;
+import com.hahn.projectmanager.dto.RegisterRequest;
+import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.service.AuthService;
+import com.hahn.projectmanager.service.ProgressService;
+import com.hahn.projectmanager.service.ProjectService;
+import com.hahn.projectmanager.service.TaskService;
+
+/**
+ * ProgressServiceImpl against the in-memory H2 database of the test profile (whole Spring context,
+ * real repositories and transactions): one project, and the batch call over all projects of a user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProgressBenchmark {
+
+    @Param({"10", "1000"})
+    public int tasksPerProject;
+
+    private static final int PROJECTS = 20;
+
+    private ConfigurableApplicationContext context;
+    private ProgressService progressService;
+    private Long userId;
+    private Long projectId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProjectmanagerApplication.class)
+                .profiles("embedded", "test")
+                .properties("server.port=0", "logging.level.root=WARN", "app.request-log.enabled=false")
+                .run();
+        progressService = context.getBean(ProgressService.class);
+        ProjectService projectService = context.getBean(ProjectService.class);
+        TaskService taskService = context.getBean(TaskService.class);
+
+        userId = context.getBean(AuthService.class)
+                .register(new RegisterRequest("bench@local.dev", "bench", "Bench"))
+                .userId();
+        List<TaskCreateRequest> tasks = new ArrayList<>(tasksPerProject);
+        for (int i = 0; i < tasksPerProject; i++) {
+            tasks.add(new TaskCreateRequest("task " + i, null, null));
+        }
+        for (int p = 0; p < PROJECTS; p++) {
+            projectId = projectService.createProject(userId, new ProjectCreateRequest("project " + p, null)).getId();
+            taskService.addTasks(userId, projectId, tasks);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProgressResponse getProgress() {
+        return progressService.getProgress(userId, projectId);
+    }
+
+    @Benchmark
+    public List<ProjectProgressResponse> getProgressBatch() {
+        return progressService.getProgressBatch(userId, null);
+    }
+}
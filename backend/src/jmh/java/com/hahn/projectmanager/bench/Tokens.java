@@ -0,0 +1,26 @@
+package com.hahn.projectmanager.bench;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hahn.projectmanager.security.JwtUtil;
+import com.hahn.projectmanager.security.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// JwtUtil câblé à la main, comme le ferait Spring (mêmes valeurs que application.properties)
+final class Tokens {
+
+    static final String SECRET = "HahnProjectSecretKey_2025_ChangeMeOnce_64chars_XXXXXXXXXXXX";
+
+    private Tokens() {
+    }
+
+    // tokenCache=false: TTL 0, chaque parseUser refait la vérification HMAC
+    static JwtUtil jwtUtil(boolean tokenCache) {
+        JwtUtil jwtUtil = new JwtUtil(new VerifiedTokenCache(10_000, tokenCache ? 300_000 : 0), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 86_400_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,116 @@
+package com.hahn.projectmanager.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies per endpoint (route template), kept raw: a run is at most a few million samples.
+ */
+final class LatencyReport {
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void start() {
+        endpoints.clear();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String endpoint, long nanos, boolean ok) {
+        if (recording) {
+            endpoints.computeIfAbsent(endpoint, e -> new Samples()).add(nanos, ok);
+        }
+    }
+
+    record Row(String endpoint, long requests, long errors, double rps, double p50, double p95, double p99, double max) {}
+
+    Map<String, Row> rows(double seconds) {
+        Map<String, Row> rows = new TreeMap<>();
+        long[] all = new long[0];
+        long allErrors = 0;
+        for (Map.Entry<String, Samples> e : endpoints.entrySet()) {
+            long[] v = e.getValue().sorted();
+            rows.put(e.getKey(), row(e.getKey(), v, e.getValue().errors.get(), seconds));
+            all = concat(all, v);
+            allErrors += e.getValue().errors.get();
+        }
+        Arrays.sort(all);
+        rows.put("ALL", row("ALL", all, allErrors, seconds));
+        return rows;
+    }
+
+    void write(Map<String, Row> rows, Path csv) throws IOException {
+        Files.createDirectories(csv.getParent());
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(csv))) {
+            out.println("endpoint,requests,errors,rps,p50_ms,p95_ms,p99_ms,max_ms");
+            rows.values().forEach(r -> out.printf("%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n",
+                    r.endpoint(), r.requests(), r.errors(), r.rps(), r.p50(), r.p95(), r.p99(), r.max()));
+        }
+    }
+
+    static void print(Map<String, Row> rows) {
+        System.out.printf("%-42s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        rows.values().forEach(r -> System.out.printf("%-42s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                r.endpoint(), r.requests(), r.errors(), r.rps(), r.p50(), r.p95(), r.p99(), r.max()));
+    }
+
+    private static Row row(String endpoint, long[] sorted, long errors, double seconds) {
+        return new Row(endpoint, sorted.length, errors, sorted.length / seconds,
+                ms(percentile(sorted, 0.50)), ms(percentile(sorted, 0.95)), ms(percentile(sorted, 0.99)),
+                ms(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int i = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, i))];
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static long[] concat(long[] a, long[] b) {
+        long[] r = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, r, a.length, b.length);
+        return r;
+    }
+
+    // succès seulement dans les latences, erreurs comptées à part
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void add(long nanos, boolean ok) {
+            if (!ok) {
+                errors.incrementAndGet();
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] v = Arrays.copyOf(values, size);
+            Arrays.sort(v);
+            return v;
+        }
+    }
+}
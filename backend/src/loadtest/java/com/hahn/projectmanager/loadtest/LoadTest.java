@@ -0,0 +1,282 @@
+package com.hahn.projectmanager.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.ProjectmanagerApplication;
+
+/**
+ * End-to-end load test in one JVM: boots the app on a throw-away embedded H2 database, seeds
+ * N users x M projects x K tasks over HTTP, then runs C closed-loop clients on a weighted mix of
+ * dashboard loads, cursor pagination, toggles and creates. Prints p50/p95/p99 per endpoint and
+ * writes target/loadtest/report.csv.
+ *
+ * <pre>
+ *   ./mvnw -Ploadtest test-compile exec:exec
+ *   ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="--clients=64 --duration=120 --mix=dashboard:50,page:30,toggle:15,create:5"
+ * </pre>
+ *
+ * Options (--name=value): users, projects, tasks, clients, warmup, duration (seconds),
+ * mix, out, max-p99-ms (exit code 1 when an endpoint is slower, for release checks).
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final Map<String, String> options;
+    private final LatencyReport report = new LatencyReport();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final AtomicLong created = new AtomicLong();
+    private String base;
+
+    // données seedées: un user = token + projects, un project = tasks
+    private record SeedProject(long id, List<Long> taskIds) {}
+
+    private record SeedUser(String token, List<SeedProject> projects) {}
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        System.exit(new LoadTest(options).run());
+    }
+
+    private int run() throws Exception {
+        int users = intOption("users", 20);
+        int projects = intOption("projects", 5);
+        int tasks = intOption("tasks", 50);
+        int clients = intOption("clients", 32);
+        int warmup = intOption("warmup", 10);
+        int duration = intOption("duration", 60);
+        Map<String, Integer> mix = parseMix(options.getOrDefault("mix", "dashboard:40,page:30,toggle:20,create:10"));
+        Path out = Path.of(options.getOrDefault("out", "target/loadtest"));
+
+        Path dbDir = Files.createTempDirectory("pm-loadtest");
+        ConfigurableApplicationContext app = new SpringApplicationBuilder(ProjectmanagerApplication.class)
+                .profiles("embedded")
+                .properties(
+                        "server.port=0",
+                        "EMBEDDED_DB_PATH=" + dbDir.resolve("db"),
+                        "app.search.index-dir=",
+                        "app.request-log.enabled=false",
+                        "logging.level.root=WARN",
+                        // seed: register séquentiel, pas de 429 sur le pool BCrypt
+                        "app.auth.hash.queue-capacity=1000")
+                .run();
+        try {
+            base = "http://localhost:" + app.getEnvironment().getProperty("local.server.port") + "/api";
+            System.out.printf("seeding %d users x %d projects x %d tasks...%n", users, projects, tasks);
+            List<SeedUser> seed = seed(users, projects, tasks);
+
+            System.out.printf("%d clients, mix %s, warmup %ds, measure %ds%n", clients, mix, warmup, duration);
+            runClients(seed, mix, clients, warmup, false);
+            report.start();
+            runClients(seed, mix, clients, duration, true);
+            report.stop();
+
+            Map<String, LatencyReport.Row> rows = report.rows(duration);
+            LatencyReport.print(rows);
+            report.write(rows, out.resolve("report.csv"));
+            System.out.println("report: " + out.resolve("report.csv"));
+            return checkP99(rows);
+        } finally {
+            app.close();
+            FileSystemUtils.deleteRecursively(dbDir);
+        }
+    }
+
+    private int checkP99(Map<String, LatencyReport.Row> rows) {
+        String max = options.get("max-p99-ms");
+        if (max == null) {
+            return 0;
+        }
+        int failed = 0;
+        for (LatencyReport.Row r : rows.values()) {
+            if (r.p99() > Double.parseDouble(max) || r.errors() > 0) {
+                System.out.printf("FAIL %s: p99 %.2f ms, %d errors (max p99 %s ms)%n", r.endpoint(), r.p99(), r.errors(), max);
+                failed++;
+            }
+        }
+        return failed == 0 ? 0 : 1;
+    }
+
+    // ---------------------------------------------------------------- seed
+
+    private List<SeedUser> seed(int users, int projects, int tasks) throws Exception {
+        List<SeedUser> seed = new ArrayList<>(users);
+        long run = System.currentTimeMillis();
+        for (int u = 0; u < users; u++) {
+            JsonNode auth = call("POST", "/auth/register", null,
+                    "{\"email\":\"load" + run + "-" + u + "@local.dev\",\"password\":\"load\",\"fullName\":\"Load " + u + "\"}");
+            String token = auth.get("token").asText();
+            List<SeedProject> userProjects = new ArrayList<>(projects);
+            for (int p = 0; p < projects; p++) {
+                long projectId = call("POST", "/projects", token, "{\"title\":\"project " + p + "\",\"description\":\"load test\"}")
+                        .get("id").asLong();
+                List<Long> taskIds = new ArrayList<>(tasks);
+                if (tasks > 0) {
+                    StringBuilder body = new StringBuilder("{\"tasks\":[");
+                    for (int t = 0; t < tasks; t++) {
+                        body.append(t == 0 ? "" : ",").append("{\"title\":\"task ").append(t)
+                                .append("\",\"description\":\"seeded task\",\"dueDate\":\"2026-0").append(1 + t % 9).append("-15\"}");
+                    }
+                    call("POST", "/projects/" + projectId + "/tasks/bulk", token, body.append("]}").toString())
+                            .forEach(n -> taskIds.add(n.get("id").asLong()));
+                }
+                userProjects.add(new SeedProject(projectId, taskIds));
+            }
+            seed.add(new SeedUser(token, userProjects));
+        }
+        return seed;
+    }
+
+    private JsonNode call(String method, String path, String token, String body) throws Exception {
+        HttpResponse<String> res = http.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+        if (res.statusCode() >= 400) {
+            throw new IllegalStateException(method + " " + path + " -> " + res.statusCode() + ": " + res.body());
+        }
+        return JSON.readTree(res.body());
+    }
+
+    // ---------------------------------------------------------------- workload
+
+    private void runClients(List<SeedUser> seed, Map<String, Integer> mix, int clients, int seconds, boolean measured)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        CountDownLatch done = new CountDownLatch(clients);
+        for (int c = 0; c < clients; c++) {
+            Thread t = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                        SeedUser user = seed.get(rnd.nextInt(seed.size()));
+                        runOperation(pick(mix, rnd), user, rnd);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, (measured ? "load-" : "warmup-") + c);
+            t.setDaemon(true);
+            t.start();
+        }
+        done.await();
+    }
+
+    private void runOperation(String op, SeedUser user, ThreadLocalRandom rnd) {
+        SeedProject project = user.projects().get(rnd.nextInt(user.projects().size()));
+        String tasks = "/projects/" + project.id() + "/tasks";
+        switch (op) {
+            case "dashboard" -> {
+                // DashboardPage: liste des projects + progress de tous en un appel
+                timed("GET /projects", "GET", "/projects", user.token(), null);
+                timed("GET /projects/progress", "GET", "/projects/progress", user.token(), null);
+            }
+            case "page" -> {
+                String next = timed("GET /projects/{id}/tasks/cursor", "GET", tasks + "/cursor?size=20", user.token(), null);
+                String cursor = next == null ? null : cursorOf(next);
+                if (cursor != null) {
+                    timed("GET /projects/{id}/tasks/cursor", "GET", tasks + "/cursor?size=20&cursor=" + cursor, user.token(), null);
+                }
+            }
+            case "toggle" -> {
+                if (!project.taskIds().isEmpty()) {
+                    long taskId = project.taskIds().get(rnd.nextInt(project.taskIds().size()));
+                    timed("PATCH /projects/{id}/tasks/{id}/toggle", "PATCH", tasks + "/" + taskId + "/toggle", user.token(), null);
+                }
+            }
+            case "create" -> timed("POST /projects/{id}/tasks", "POST", tasks, user.token(),
+                    "{\"title\":\"load " + created.incrementAndGet() + "\",\"description\":\"created under load\"}");
+            default -> throw new IllegalArgumentException("unknown operation " + op);
+        }
+    }
+
+    // renvoie le body (null si erreur) pour enchaîner les pages
+    private String timed(String endpoint, String method, String path, String token, String body) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> res = http.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+            boolean ok = res.statusCode() < 400;
+            report.record(endpoint, System.nanoTime() - start, ok);
+            return ok ? res.body() : null;
+        } catch (Exception e) {
+            report.record(endpoint, System.nanoTime() - start, false);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+
+    private static String cursorOf(String page) {
+        try {
+            JsonNode next = JSON.readTree(page).get("nextCursor");
+            return next == null || next.isNull() ? null : next.asText();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private HttpRequest request(String method, String path, String token, String body) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(base + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            b.header("Authorization", "Bearer " + token);
+        }
+        return b.build();
+    }
+
+    // ---------------------------------------------------------------- options
+
+    private static String pick(Map<String, Integer> mix, ThreadLocalRandom rnd) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int r = rnd.nextInt(total);
+        for (Map.Entry<String, Integer> e : mix.entrySet()) {
+            r -= e.getValue();
+            if (r < 0) {
+                return e.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static Map<String, Integer> parseMix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            mix.put(kv[0], Integer.parseInt(kv[1]));
+        }
+        return mix;
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+}
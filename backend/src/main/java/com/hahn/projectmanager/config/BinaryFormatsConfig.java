@@ -0,0 +1,30 @@
+package com.hahn.projectmanager.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Smile and CBOR next to JSON, picked by the Accept header (JSON stays the default for * / *).
+ * Same mapper settings as the JSON one (spring.jackson.*, dates as ISO strings), only the encoding changes.
+ * The converter beans replace Spring MVC's defaults in place, after the JSON converter.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    // Jackson2ObjectMapperBuilder de Boot: bean prototype, une instance par méthode
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,22 @@
+package com.hahn.projectmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.changes.*: change log behind GET /api/changes.
+ *
+ * @param retention    entries older than this are compacted away, older cursors get reset=true
+ * @param defaultLimit log entries read per call when the client gives no limit
+ * @param maxLimit     upper bound of the limit parameter
+ */
+@ConfigurationProperties(prefix = "app.changes")
+public record ChangeLogProperties(Duration retention, Integer defaultLimit, Integer maxLimit) {
+
+    public ChangeLogProperties {
+        retention = retention == null ? Duration.ofDays(7) : retention;
+        defaultLimit = defaultLimit == null ? 500 : defaultLimit;
+        maxLimit = maxLimit == null ? 1000 : maxLimit;
+    }
+}
@@ -0,0 +1,89 @@
+package com.hahn.projectmanager.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.util.StringUtils;
+
+import com.hahn.projectmanager.datasource.ReadReplicaDataSource;
+import com.hahn.projectmanager.datasource.ReplicaAwareJpaDialect;
+import com.hahn.projectmanager.datasource.ReplicaLagMonitor;
+import com.hahn.projectmanager.datasource.ReplicaRoutingFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read/write split (app.datasource.replica.enabled=true): replaces Boot's DataSource by a
+ * {@link ReadReplicaDataSource} over two Hikari pools. The primary pool keeps spring.datasource.* and
+ * spring.datasource.hikari.*; the replica pool is read-only and never fails startup (a missing replica
+ * only means every read stays on the primary). Still one DataSource bean: /actuator/health checks the
+ * primary, replica state is on db.replica.* and hikaricp.*{pool=replica}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReadReplicaDataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaProperties properties,
+                                            Environment environment, MeterRegistry registry) {
+        if (!StringUtils.hasText(properties.url())) {
+            throw new IllegalStateException("app.datasource.replica.url is required when the replica is enabled");
+        }
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(properties.url());
+        replica.setDriverClassName(primary.getDriverClassName());
+        replica.setUsername(properties.username() != null ? properties.username() : primary.getUsername());
+        replica.setPassword(properties.password() != null ? properties.password() : primary.getPassword());
+        replica.setMaximumPoolSize(properties.maximumPoolSize());
+        replica.setConnectionTimeout(properties.connectionTimeout().toMillis());
+        replica.setReadOnly(true);
+        replica.setInitializationFailTimeout(-1);
+        // le pool primary est instrumenté par Boot (DataSource bean), pas celui-ci
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+
+        return new ReadReplicaDataSource(primary, replica);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaDataSource dataSource, ReplicaProperties properties,
+                                               MeterRegistry registry) {
+        return new ReplicaLagMonitor(dataSource, properties.maxStaleness().toMillis(), registry);
+    }
+
+    @Bean
+    public ReplicaRoutingFilter replicaRoutingFilter(ReplicaLagMonitor replicaLagMonitor, ReplicaProperties properties) {
+        return new ReplicaRoutingFilter(replicaLagMonitor, properties.readYourWrites());
+    }
+
+    // le JpaTransactionManager de Boot prend le dialecte de l'EntityManagerFactory dans afterPropertiesSet
+    @Bean
+    public static BeanPostProcessor replicaAwareJpaDialect() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JpaTransactionManager transactionManager) {
+                    transactionManager.setJpaDialect(new ReplicaAwareJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
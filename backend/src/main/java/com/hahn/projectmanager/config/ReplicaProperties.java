@@ -0,0 +1,41 @@
+package com.hahn.projectmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.datasource.replica.*: read replica behind read-only transactions, cf. ReplicaDataSourceConfig.
+ *
+ * @param enabled           off by default: a single datasource, as before
+ * @param url               JDBC url of the replica
+ * @param username          defaults to spring.datasource.username
+ * @param password          defaults to spring.datasource.password
+ * @param maximumPoolSize   replica pool size
+ * @param connectionTimeout wait for a replica connection, short: a dead replica must not hold requests
+ * @param maxStaleness      above this measured lag, reads go back to the primary (must exceed heartbeatInterval)
+ * @param heartbeatInterval heartbeat write on the primary + lag measure on the replica
+ * @param readYourWrites    after a write, the user's reads stay on the primary this long
+ *                          (default: maxStaleness + heartbeatInterval, the worst lag a replica read can have)
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        Integer maximumPoolSize,
+        Duration connectionTimeout,
+        Duration maxStaleness,
+        Duration heartbeatInterval,
+        Duration readYourWrites
+) {
+
+    public ReplicaProperties {
+        maximumPoolSize = maximumPoolSize == null ? 10 : maximumPoolSize;
+        connectionTimeout = connectionTimeout == null ? Duration.ofSeconds(2) : connectionTimeout;
+        maxStaleness = maxStaleness == null ? Duration.ofSeconds(5) : maxStaleness;
+        heartbeatInterval = heartbeatInterval == null ? Duration.ofSeconds(1) : heartbeatInterval;
+        readYourWrites = readYourWrites == null ? maxStaleness.plus(heartbeatInterval) : readYourWrites;
+    }
+}
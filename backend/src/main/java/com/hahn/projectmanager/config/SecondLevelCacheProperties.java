@@ -0,0 +1,43 @@
+package com.hahn.projectmanager.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.hahn.projectmanager.entity.Project;
+import com.hahn.projectmanager.entity.User;
+
+/**
+ * app.l2-cache.*: Hibernate second-level cache regions, one Caffeine cache each.
+ *
+ * @param regions per region name (cf. @Cache / @NaturalIdCache on the entities), e.g.
+ *                regions.projects.max-size=20000, regions.projects.ttl=10m
+ */
+@ConfigurationProperties(prefix = "app.l2-cache")
+public record SecondLevelCacheProperties(Map<String, Region> regions) {
+
+    public SecondLevelCacheProperties {
+        Map<String, Region> all = new LinkedHashMap<>();
+        // toutes les régions des entités existent, même sans config (missing_cache_strategy=fail)
+        for (String name : new String[]{User.CACHE_REGION, User.EMAIL_CACHE_REGION, Project.CACHE_REGION}) {
+            all.put(name, new Region(null, null));
+        }
+        if (regions != null) {
+            all.putAll(regions);
+        }
+        regions = all;
+    }
+
+    /**
+     * @param maxSize entries kept, least recently / frequently used evicted first
+     * @param ttl     time-to-live after write: bounds how long a row changed outside Hibernate can be served
+     */
+    public record Region(Long maxSize, Duration ttl) {
+        public Region {
+            maxSize = maxSize == null ? 10_000L : maxSize;
+            ttl = ttl == null ? Duration.ofMinutes(10) : ttl;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.hahn.projectmanager.config;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.hahn.projectmanager.entity.Task;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Task ids moved from IDENTITY to blocks allocated from the id_generators table (JDBC insert batching,
+ * see {@link com.hahn.projectmanager.repository.TaskIdAllocator}). Creates the table and its row, and on
+ * databases that already contain tasks makes sure allocation starts above max(id), before the web server
+ * accepts requests.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskIdGeneratorInitializer implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // même DDL que l'ancien @TableGenerator: les bases existantes gardent leur ligne
+        jdbcTemplate.execute("create table if not exists " + Task.ID_TABLE
+                + " (name varchar(255) not null, next_val bigint, primary key (name))");
+
+        Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from tasks", Long.class);
+        long floor = (maxId == null ? 0 : maxId) + 1;
+
+        Long current = jdbcTemplate.query(
+                "select next_val from " + Task.ID_TABLE + " where name = ?",
+                rs -> rs.next() ? rs.getLong(1) : null,
+                Task.ID_SEGMENT);
+
+        if (current == null) {
+            jdbcTemplate.update("insert into " + Task.ID_TABLE + " (name, next_val) values (?, ?)", Task.ID_SEGMENT, floor);
+        } else if (current < floor) {
+            jdbcTemplate.update("update " + Task.ID_TABLE + " set next_val = ? where name = ?", floor, Task.ID_SEGMENT);
+        } else {
+            return;
+        }
+        log.info("Task id allocation starts at {} (max task id = {})", floor, maxId);
+    }
+}
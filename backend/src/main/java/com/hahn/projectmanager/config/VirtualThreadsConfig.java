@@ -0,0 +1,36 @@
+package com.hahn.projectmanager.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Profile "vthreads": Spring Boot silently keeps platform threads when the runtime is older than 21,
+ * so say at startup which model is actually serving requests.
+ */
+@Slf4j
+@Configuration
+@Profile("vthreads")
+@RequiredArgsConstructor
+public class VirtualThreadsConfig {
+
+    private final Environment environment;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingModel() {
+        String pool = environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Requests run on virtual threads (Java {}), concurrency bounded by the DB pool ({} connections)",
+                    Runtime.version().feature(), pool);
+        } else {
+            log.warn("Profile 'vthreads' active but Java {} has no virtual threads: using the Tomcat platform thread pool",
+                    Runtime.version().feature());
+        }
+    }
+}
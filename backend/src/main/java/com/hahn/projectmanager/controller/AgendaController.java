@@ -0,0 +1,33 @@
+package com.hahn.projectmanager.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hahn.projectmanager.dto.AgendaResponse;
+import com.hahn.projectmanager.service.AgendaService;
+import com.hahn.projectmanager.service.CurrentUserService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+public class AgendaController {
+
+    private final AgendaService agendaService;
+    private final CurrentUserService currentUserService;
+
+    // today: date locale du client (sinon date du serveur)
+    @GetMapping("/agenda")
+    public AgendaResponse agenda(
+            @RequestParam(required = false) Integer days,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate today
+    ) {
+        return agendaService.getAgenda(currentUserService.getIdOrThrow(), today, days);
+    }
+}
@@ -0,0 +1,30 @@
+package com.hahn.projectmanager.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hahn.projectmanager.dto.ChangesResponse;
+import com.hahn.projectmanager.service.ChangeLogService;
+import com.hahn.projectmanager.service.CurrentUserService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangesController {
+
+    private final ChangeLogService changeLogService;
+    private final CurrentUserService currentUserService;
+
+    // sans since: curseur courant + reset=true (charger les listes, puis synchroniser depuis ce curseur)
+    @GetMapping
+    public ChangesResponse changes(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return changeLogService.getChanges(currentUserService.getIdOrThrow(), since, limit);
+    }
+}
@@ -0,0 +1,36 @@
+package com.hahn.projectmanager.controller;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.hahn.projectmanager.service.EntityTags;
+
+/**
+ * GET with ETag: 304 without calling the body supplier when If-None-Match still matches.
+ * The tag comes from a version query (cf. EntityTags), so a 304 costs one small SELECT.
+ */
+final class ConditionalGet {
+
+    // le navigateur garde la réponse mais revalide à chaque fois (If-None-Match), jamais de donnée périmée
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(String ifNoneMatch, String etag, Supplier<T> body) {
+        if (etag == null) {
+            // introuvable ou pas à moi: la lecture normale lève l'erreur habituelle (403/404)
+            return ResponseEntity.ok(body.get());
+        }
+        if (EntityTags.matches(ifNoneMatch, etag, false)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        // même tag en JSON, Smile ou CBOR: Vary sépare les représentations dans le cache du client
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).body(body.get());
+    }
+}
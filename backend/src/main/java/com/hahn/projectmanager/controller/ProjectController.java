@@ -4,17 +4,23 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.hahn.projectmanager.dto.ProgressResponse;
+import com.hahn.projectmanager.dto.CursorPage;
 import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.ProjectProgressResponse;
+import com.hahn.projectmanager.dto.ProjectSummary;
 import com.hahn.projectmanager.dto.ProjectUpdateRequest;
 import com.hahn.projectmanager.entity.Project;
 import com.hahn.projectmanager.service.CurrentUserService;
@@ -38,24 +44,58 @@ public class ProjectController {
         return projectService.createProject(currentUserService.getIdOrThrow(), request);
     }
 
+    // lists and progress share the tag of all my projects: any project or task change bumps it
     @GetMapping
-    public List<Project> getMyProjects() {
-        return projectService.getMyProjects(currentUserService.getIdOrThrow());
+    public ResponseEntity<List<ProjectSummary>> getMyProjects(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, projectService.getMyProjectsTag(userId),
+                () -> projectService.getMyProjects(userId));
     }
 
     @GetMapping("/paged")
-    public Page<Project> getMyProjectsPaged(Pageable pageable) {
-        return projectService.getMyProjectsPaged(currentUserService.getIdOrThrow(), pageable);
+    public ResponseEntity<Page<ProjectSummary>> getMyProjectsPaged(
+            Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, projectService.getMyProjectsTag(userId),
+                () -> projectService.getMyProjectsPaged(userId, pageable));
     }
 
-    @GetMapping("/{projectId:\\d+}/progress")
-    public ProgressResponse getProjectProgress(@PathVariable Long projectId) {
-        return progressService.getProgress(currentUserService.getIdOrThrow(), projectId);
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ProjectSummary>> getMyProjectsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, projectService.getMyProjectsTag(userId),
+                () -> projectService.getMyProjectsByCursor(userId, cursor, size, sort, withTotal));
+    }
+
+    // progress of all my projects (or only ?ids=1,2,3) in one call
+    @GetMapping("/progress")
+    public ResponseEntity<List<ProjectProgressResponse>> getProjectsProgress(
+            @RequestParam(required = false) List<Long> ids,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, projectService.getMyProjectsTag(userId),
+                () -> progressService.getProgressBatch(userId, ids));
     }
 
     @GetMapping("/{id:\\d+}")
-    public Project getProject(@PathVariable Long id) {
-        return projectService.getMyProjectById(currentUserService.getIdOrThrow(), id);
+    public ResponseEntity<Project> getProject(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, projectService.getMyProjectTag(userId, id),
+                () -> projectService.getMyProjectById(userId, id));
     }
 
     @PutMapping("/{id:\\d+}")
@@ -0,0 +1,34 @@
+package com.hahn.projectmanager.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hahn.projectmanager.push.PushHub;
+import com.hahn.projectmanager.service.CurrentUserService;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/push")
+@RequiredArgsConstructor
+public class PushController {
+
+    public static final String STREAM_PATH = "/api/push/stream";
+
+    private final PushHub pushHub;
+    private final CurrentUserService currentUserService;
+
+    // EventSource: pas d'en-tête Authorization possible -> ?access_token=<jwt> accepté sur ce chemin seulement
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(HttpServletResponse response) {
+        Long userId = currentUserService.getIdOrThrow();
+        response.setHeader("Cache-Control", "no-store");
+        // nginx: pas de buffering du flux
+        response.setHeader("X-Accel-Buffering", "no");
+        return pushHub.subscribe(userId);
+    }
+}
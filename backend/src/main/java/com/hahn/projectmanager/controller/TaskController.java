@@ -1,17 +1,32 @@
 package com.hahn.projectmanager.controller;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.hahn.projectmanager.dto.BulkResult;
+import com.hahn.projectmanager.dto.CursorPage;
+import com.hahn.projectmanager.dto.ImportResult;
+import com.hahn.projectmanager.dto.TaskBulkCreateRequest;
+import com.hahn.projectmanager.dto.TaskBulkUpdateRequest;
 import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskIdsRequest;
+import com.hahn.projectmanager.dto.TaskSummary;
 import com.hahn.projectmanager.dto.TaskUpdateRequest;
 import com.hahn.projectmanager.entity.Task;
 import com.hahn.projectmanager.service.CurrentUserService;
+import com.hahn.projectmanager.service.EntityTags;
 import com.hahn.projectmanager.service.TaskService;
+import com.hahn.projectmanager.service.TaskTransferService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -21,6 +36,7 @@ import lombok.RequiredArgsConstructor;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskTransferService taskTransferService;
     private final CurrentUserService currentUserService;
 
     @PostMapping
@@ -31,42 +47,76 @@ public class TaskController {
         return taskService.addTask(currentUserService.getIdOrThrow(), projectId, request);
     }
 
+    // lists: tag = tasks version of the project, bumped by every task change
     @GetMapping
-    public List<Task> getTasks(@PathVariable Long projectId) {
-        return taskService.getTasks(currentUserService.getIdOrThrow(), projectId);
+    public ResponseEntity<List<TaskSummary>> getTasks(
+            @PathVariable Long projectId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, taskService.getTasksTag(userId, projectId),
+                () -> taskService.getTasks(userId, projectId));
     }
 
     @GetMapping("/paged")
-    public Page<Task> getTasksPaged(
+    public ResponseEntity<Page<TaskSummary>> getTasksPaged(
+            @PathVariable Long projectId,
+            Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, taskService.getTasksTag(userId, projectId),
+                () -> taskService.getTasksPaged(userId, projectId, pageable));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<TaskSummary>> getTasksByCursor(
             @PathVariable Long projectId,
-            Pageable pageable
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return taskService.getTasksPaged(currentUserService.getIdOrThrow(), projectId, pageable);
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, taskService.getTasksTag(userId, projectId),
+                () -> taskService.getTasksByCursor(userId, projectId, cursor, size, sort, withTotal));
     }
 
     @GetMapping("/{taskId}")
-    public Task getTask(
+    public ResponseEntity<Task> getTask(
             @PathVariable Long projectId,
-            @PathVariable Long taskId
+            @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return taskService.getTaskById(currentUserService.getIdOrThrow(), projectId, taskId);
+        Long userId = currentUserService.getIdOrThrow();
+        return ConditionalGet.respond(ifNoneMatch, taskService.getTaskTag(userId, projectId, taskId),
+                () -> taskService.getTaskById(userId, projectId, taskId));
     }
 
+    // If-Match (optional): ETag from GET /{taskId}, 412 if someone changed the task since
     @PutMapping("/{taskId}")
-    public Task updateTask(
+    public ResponseEntity<Task> updateTask(
             @PathVariable Long projectId,
             @PathVariable Long taskId,
-            @RequestBody @Valid TaskUpdateRequest request
+            @RequestBody @Valid TaskUpdateRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return taskService.updateTask(currentUserService.getIdOrThrow(), projectId, taskId, request);
+        return withTag(taskService.updateTask(currentUserService.getIdOrThrow(), projectId, taskId, request, ifMatch));
     }
 
     @PatchMapping("/{taskId}/toggle")
-    public Task toggleTask(
+    public ResponseEntity<Task> toggleTask(
             @PathVariable Long projectId,
-            @PathVariable Long taskId
+            @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return taskService.toggleComplete(currentUserService.getIdOrThrow(), projectId, taskId);
+        return withTag(taskService.toggleComplete(currentUserService.getIdOrThrow(), projectId, taskId, ifMatch));
+    }
+
+    // nouvel ETag renvoyé: le client peut enchaîner une autre écriture sans relire
+    private static ResponseEntity<Task> withTag(Task task) {
+        return ResponseEntity.ok().eTag(EntityTags.task(task.getId(), task.getVersion())).body(task);
     }
 
     @DeleteMapping("/{taskId}")
@@ -76,4 +126,65 @@ public class TaskController {
     ) {
         taskService.deleteTask(currentUserService.getIdOrThrow(), projectId, taskId);
     }
+
+    // ===== bulk =====
+
+    @PostMapping("/bulk")
+    public List<TaskSummary> addTasks(
+            @PathVariable Long projectId,
+            @RequestBody @Valid TaskBulkCreateRequest request
+    ) {
+        return taskService.addTasks(currentUserService.getIdOrThrow(), projectId, request.tasks());
+    }
+
+    @PutMapping("/bulk")
+    public BulkResult updateTasks(
+            @PathVariable Long projectId,
+            @RequestBody @Valid TaskBulkUpdateRequest request
+    ) {
+        return taskService.updateTasks(currentUserService.getIdOrThrow(), projectId, request.tasks());
+    }
+
+    @PatchMapping("/bulk/toggle")
+    public BulkResult toggleTasks(
+            @PathVariable Long projectId,
+            @RequestBody @Valid TaskIdsRequest request
+    ) {
+        return taskService.toggleTasks(currentUserService.getIdOrThrow(), projectId, request.ids());
+    }
+
+    @PostMapping("/bulk/delete")
+    public BulkResult deleteTasks(
+            @PathVariable Long projectId,
+            @RequestBody @Valid TaskIdsRequest request
+    ) {
+        return taskService.deleteTasks(currentUserService.getIdOrThrow(), projectId, request.ids());
+    }
+
+    // ===== export / import (streaming) =====
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        // contrôles faits ici: le corps est écrit plus tard, sur un autre thread
+        taskTransferService.checkAccess(currentUserService.getIdOrThrow(), projectId);
+        String contentType = taskTransferService.contentType(format);
+
+        StreamingResponseBody body = out -> taskTransferService.exportTasks(projectId, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(contentType))
+                .header("Content-Disposition", "attachment; filename=\"project-" + projectId + "-tasks." + format.toLowerCase() + "\"")
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ImportResult importTasks(
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request
+    ) throws IOException {
+        return taskTransferService.importTasks(currentUserService.getIdOrThrow(), projectId, format, request.getInputStream());
+    }
 }
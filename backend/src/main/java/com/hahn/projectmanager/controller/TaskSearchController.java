@@ -0,0 +1,30 @@
+package com.hahn.projectmanager.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hahn.projectmanager.dto.TaskSearchResponse;
+import com.hahn.projectmanager.service.CurrentUserService;
+import com.hahn.projectmanager.service.TaskSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+public class TaskSearchController {
+
+    private final TaskSearchService taskSearchService;
+    private final CurrentUserService currentUserService;
+
+    @GetMapping("/search")
+    public TaskSearchResponse search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ) {
+        return taskSearchService.search(currentUserService.getIdOrThrow(), q, page, size);
+    }
+}
@@ -0,0 +1,74 @@
+package com.hahn.projectmanager.datasource;
+
+import java.io.Closeable;
+import java.util.Map;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The application DataSource when a replica is configured. Connections are lazy: the physical one is taken
+ * at the first statement, once the transaction has marked it read-only. Read-write connections always come
+ * from the primary; read-only ones ({@code @Transactional(readOnly = true)}) from the replica, but only when
+ * the current thread was allowed to ({@link #useReplica}, set per request by {@link ReplicaRoutingFilter}),
+ * otherwise from the primary as well.
+ */
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final ThreadLocal<Boolean> REPLICA_ALLOWED = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReadReplicaDataSource(HikariDataSource primary, HikariDataSource replica) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+
+        ReadOnlyRouting readOnly = new ReadOnlyRouting();
+        readOnly.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        readOnly.setDefaultTargetDataSource(primary);
+        readOnly.afterPropertiesSet();
+        setReadOnlyDataSource(readOnly);
+    }
+
+    /** Read-only transactions of the current thread may use the replica (until {@link #clear}). */
+    public static void useReplica(boolean allowed) {
+        REPLICA_ALLOWED.set(allowed);
+    }
+
+    public static void clear() {
+        REPLICA_ALLOWED.remove();
+    }
+
+    public static boolean replicaAllowed() {
+        return Boolean.TRUE.equals(REPLICA_ALLOWED.get());
+    }
+
+    public HikariDataSource primary() {
+        return primary;
+    }
+
+    public HikariDataSource replica() {
+        return replica;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    private enum Target { PRIMARY, REPLICA }
+
+    // hors requête (jobs planifiés, after-commit d'une écriture): primary
+    private static final class ReadOnlyRouting extends AbstractRoutingDataSource {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return replicaAllowed() ? Target.REPLICA : Target.PRIMARY;
+        }
+    }
+}
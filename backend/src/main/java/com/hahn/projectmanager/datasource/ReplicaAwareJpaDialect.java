@@ -0,0 +1,29 @@
+package com.hahn.projectmanager.datasource;
+
+import java.sql.SQLException;
+
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+
+/**
+ * A transaction reading from the replica may see rows older than the second-level cache: it reads the cache
+ * but never puts into it, otherwise a lagging replica could put back a version the primary already replaced.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (definition.isReadOnly() && ReadReplicaDataSource.replicaAllowed()) {
+            // propriété JPA: find() l'applique par appel, elle prime sur le CacheMode de la Session
+            entityManager.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        }
+        return transactionData;
+    }
+}
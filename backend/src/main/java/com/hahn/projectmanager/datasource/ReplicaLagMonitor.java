@@ -0,0 +1,103 @@
+package com.hahn.projectmanager.datasource;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Replica staleness, measured the same way on any database: every interval a timestamp is written to the
+ * replica_heartbeat table on the primary and read back from the replica. Lag = now - timestamp seen.
+ * Above max staleness, or when the replica cannot be read (down, not replicating), the replica is not used
+ * and read-only transactions fall back to the primary until the lag is back under the limit.
+ * Meters: db.replica.lag (ms, NaN when unknown) and db.replica.usable (0/1).
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartInitializingSingleton {
+
+    static final String TABLE = "replica_heartbeat";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxStalenessMs;
+
+    private volatile long lagMs = -1;
+    private volatile boolean usable;
+    private Boolean reported;
+
+    public ReplicaLagMonitor(ReadReplicaDataSource dataSource, long maxStalenessMs, MeterRegistry registry) {
+        this.primary = new JdbcTemplate(dataSource.primary());
+        this.replica = new JdbcTemplate(dataSource.replica());
+        this.maxStalenessMs = maxStalenessMs;
+
+        Gauge.builder("db.replica.lag", this, m -> m.lagMs < 0 ? Double.NaN : m.lagMs)
+                .description("Replica lag measured from the heartbeat table")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("db.replica.usable", this, m -> m.usable ? 1 : 0)
+                .description("1 when read-only transactions may use the replica")
+                .register(registry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // créée sur le primary, la réplication la copie sur le replica
+        primary.execute("create table if not exists " + TABLE + " (id int not null, beat_at bigint not null, primary key (id))");
+        check();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.datasource.replica.heartbeat-interval:1s}",
+            fixedDelayString = "${app.datasource.replica.heartbeat-interval:1s}")
+    public void check() {
+        beat();
+        measure();
+    }
+
+    void beat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update("update " + TABLE + " set beat_at = ? where id = 1", now) == 0) {
+                primary.update("insert into " + TABLE + " (id, beat_at) values (1, ?)", now);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Replica heartbeat write failed: {}", e.getMessage());
+        }
+    }
+
+    void measure() {
+        try {
+            Long beat = replica.query("select beat_at from " + TABLE + " where id = 1",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+            lagMs = beat == null ? -1 : Math.max(0, System.currentTimeMillis() - beat);
+        } catch (DataAccessException e) {
+            lagMs = -1;
+            log.debug("Replica heartbeat read failed: {}", e.getMessage());
+        }
+        usable = lagMs >= 0 && lagMs <= maxStalenessMs;
+
+        // au démarrage puis à chaque changement d'état
+        if (!Boolean.valueOf(usable).equals(reported)) {
+            reported = usable;
+            if (usable) {
+                log.info("Replica in use (lag {} ms)", lagMs);
+            } else if (lagMs < 0) {
+                log.warn("Replica unreachable or not replicating (no heartbeat): reads go to the primary");
+            } else {
+                log.warn("Replica stale (lag {} ms, max {} ms): reads go to the primary", lagMs, maxStalenessMs);
+            }
+        }
+    }
+
+    public boolean usable() {
+        return usable;
+    }
+
+    public long lagMs() {
+        return lagMs;
+    }
+}
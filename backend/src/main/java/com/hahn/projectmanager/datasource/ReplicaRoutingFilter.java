@@ -0,0 +1,63 @@
+package com.hahn.projectmanager.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hahn.projectmanager.logging.RequestLoggingFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Decides once per request whether its read-only transactions may use the replica: GET/HEAD only, replica
+ * not stale, and the user has not written within the read-your-writes window (a user always reads back
+ * their own changes). Deciding per request keeps an ETag and its body on the same database.
+ * Recent writers are tracked in memory, so read-your-writes holds per JVM only: with several app instances
+ * behind a load balancer, a read landing on another instance than the write may still hit the replica.
+ * Runs after Spring Security (default filter order), which sets the user id attribute.
+ */
+public class ReplicaRoutingFilter extends OncePerRequestFilter {
+
+    private static final int MAX_TRACKED_WRITERS = 100_000;
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReplicaRoutingFilter(ReplicaLagMonitor lagMonitor, Duration readYourWrites) {
+        this.lagMonitor = lagMonitor;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWrites)
+                .maximumSize(MAX_TRACKED_WRITERS)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Long userId = (Long) request.getAttribute(RequestLoggingFilter.USER_ID_ATTRIBUTE);
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+
+        boolean writer = !read && userId != null;
+        if (writer) {
+            // avant la requête: une lecture concurrente de l'user (autre onglet) reste sur le primary
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+        ReadReplicaDataSource.useReplica(read && lagMonitor.usable()
+                && (userId == null || recentWriters.getIfPresent(userId) == null));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadReplicaDataSource.clear();
+            if (writer) {
+                // et à nouveau après le commit: la fenêtre compte à partir de l'écriture effective
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.hahn.projectmanager.dto;
+
+import java.time.LocalDate;
+
+public record AgendaItem(
+        Long id,
+        String title,
+        LocalDate dueDate,
+        Long projectId,
+        String projectTitle
+) {}
@@ -0,0 +1,13 @@
+package com.hahn.projectmanager.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record AgendaResponse(
+        LocalDate today,
+        int days,
+        List<AgendaItem> overdue,
+        List<AgendaItem> dueToday,
+        List<AgendaItem> upcoming,
+        boolean truncated
+) {}
@@ -0,0 +1,5 @@
+package com.hahn.projectmanager.dto;
+
+public record BulkResult(
+        int affected
+) {}
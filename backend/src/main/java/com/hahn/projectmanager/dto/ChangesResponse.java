@@ -0,0 +1,14 @@
+package com.hahn.projectmanager.dto;
+
+import java.util.List;
+
+// delta sync: état courant de ce qui a changé depuis le curseur, les suppressions en ids
+public record ChangesResponse(
+        String cursor,                  // to send as since= on the next call
+        boolean reset,                  // cursor unknown or compacted: reload everything, then sync from cursor
+        boolean hasMore,                // more changes right away, call again with cursor
+        List<ProjectSummary> projects,
+        List<TaskSummary> tasks,
+        List<Long> deletedProjectIds,   // their tasks are gone too
+        List<Long> deletedTaskIds
+) {}
@@ -0,0 +1,10 @@
+package com.hahn.projectmanager.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,      // null when there is no next page
+        boolean hasNext,
+        Long totalElements      // only when requested (withTotal=true)
+) {}
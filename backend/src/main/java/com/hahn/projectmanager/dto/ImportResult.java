@@ -0,0 +1,6 @@
+package com.hahn.projectmanager.dto;
+
+public record ImportResult(
+        long imported,
+        int chunks
+) {}
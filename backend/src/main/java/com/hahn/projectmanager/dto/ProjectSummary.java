@@ -0,0 +1,10 @@
+package com.hahn.projectmanager.dto;
+
+// ligne de liste: colonnes du project uniquement, jamais la collection tasks
+public record ProjectSummary(
+        Long id,
+        String title,
+        String description,
+        long totalTasks,
+        long completedTasks
+) {}
@@ -0,0 +1,11 @@
+package com.hahn.projectmanager.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record TaskBulkCreateRequest(
+        @NotEmpty @Size(max = 5000) List<@Valid TaskCreateRequest> tasks
+) {}
@@ -0,0 +1,13 @@
+package com.hahn.projectmanager.dto;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskBulkUpdateItem(
+        @NotNull Long id,
+        @NotBlank String title,
+        String description,
+        LocalDate dueDate
+) {}
@@ -0,0 +1,10 @@
+package com.hahn.projectmanager.dto;
+
+import java.util.List;
+
+// SSE "task-changed": ids seulement, le client relit ou applique GET /api/changes
+public record TaskChangedEvent(
+        Long projectId,
+        List<Long> taskIds,
+        boolean deleted
+) {}
@@ -0,0 +1,11 @@
+package com.hahn.projectmanager.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record TaskIdsRequest(
+        @NotEmpty @Size(max = 5000) List<@NotNull Long> ids
+) {}
@@ -0,0 +1,12 @@
+package com.hahn.projectmanager.dto;
+
+import java.time.LocalDate;
+
+public record TaskSearchHit(
+        Long id,
+        Long projectId,
+        String title,
+        LocalDate dueDate,
+        boolean completed,
+        float score
+) {}
@@ -0,0 +1,12 @@
+package com.hahn.projectmanager.dto;
+
+import java.util.List;
+
+public record TaskSearchResponse(
+        String query,
+        List<TaskSearchHit> hits,
+        long totalHits,
+        int page,
+        int size,
+        double tookMs
+) {}
@@ -0,0 +1,12 @@
+package com.hahn.projectmanager.dto;
+
+import java.time.LocalDate;
+
+public record TaskSummary(
+        Long id,
+        String title,
+        String description,
+        LocalDate dueDate,
+        boolean completed,
+        Long projectId
+) {}
@@ -0,0 +1,72 @@
+package com.hahn.projectmanager.entity;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One create / update / delete of a project or task, per owner, in commit order.
+ * (ownerId, seq) is assigned by ChangeLogServiceImpl from ChangeSequence: no IDENTITY, inserts are batched,
+ * and seq has no gap so a sync cursor never skips a change that was not committed yet.
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+        // compaction: entrées remplacées par une plus récente sur la même entité
+        @Index(name = "idx_change_log_entity", columnList = "owner_id, entity_type, entity_id, seq"),
+        @Index(name = "idx_change_log_changed_at", columnList = "changed_at")
+})
+@IdClass(ChangeLogEntry.Key.class)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ChangeLogEntry {
+
+    public enum EntityType { PROJECT, TASK }
+
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Id
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 10)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    // project de la task (ou le project lui-même): ses compteurs ont changé aussi
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // tombstone
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long ownerId;
+        private Long seq;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hahn.projectmanager.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Change log position of one owner. The row is locked (select for update) by every write of that owner,
+ * so seqs are allocated in commit order; floorSeq = last seq dropped by compaction.
+ */
+@Entity
+@Table(name = "change_sequences")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class ChangeSequence {
+
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+
+    // un curseur < floorSeq a pu perdre des changements -> resync complète
+    @Column(name = "floor_seq", nullable = false)
+    private long floorSeq;
+}
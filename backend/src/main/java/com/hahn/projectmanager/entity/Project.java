@@ -1,11 +1,15 @@
 package com.hahn.projectmanager.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.annotation.JsonManagedReference;
 
 import jakarta.persistence.*;
 import lombok.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -14,8 +18,13 @@ import java.util.List;
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
+@DynamicUpdate // un update du titre ne doit pas écraser les compteurs
+@Cacheable // lu par id à chaque opération sur les tasks (ownership, ETag)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Project.CACHE_REGION)
 public class Project {
 
+    public static final String CACHE_REGION = "projects";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -26,12 +35,33 @@ public class Project {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    // version du project lui-même (titre, description), sert d'ETag avec tasksVersion
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0") // ddl-auto=update sur une base existante
+    private long version;
+
+    // version agrégée des tasks: +1 à chaque changement de task (cf. ProjectRepositoryImpl.adjustTaskCounters / touchTasks)
+    @Column(name = "tasks_version", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long tasksVersion = 0;
+
+    // compteurs dénormalisés, maintenus par TaskServiceImpl (réparés par TaskCounterReconciler)
+    @Column(name = "total_tasks", nullable = false)
+    @Builder.Default
+    private long totalTasks = 0;
+
+    @Column(name = "completed_tasks", nullable = false)
+    @Builder.Default
+    private long completedTasks = 0;
+
     @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User owner;
 
-    @JsonManagedReference
+    @JsonIgnore // jamais sérialisé: les tasks ont leurs propres endpoints
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Task> tasks = new ArrayList<>();
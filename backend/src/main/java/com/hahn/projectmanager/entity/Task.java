@@ -1,33 +1,44 @@
 package com.hahn.projectmanager.entity;
 
-import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import java.time.LocalDate;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import org.hibernate.annotations.ColumnDefault;
+
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // agenda (project_id = ? and completed = false and due_date < ? / between ? and ?) et les COUNT completed par project
+        @Index(name = "idx_tasks_project_completed_due", columnList = "project_id, completed, due_date")
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class Task {
 
+    public static final String ID_TABLE = "id_generators";
+    public static final String ID_SEGMENT = "tasks";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // pas IDENTITY: Hibernate ne peut pas batcher les INSERT avec IDENTITY
+    // (MySQL 5.7 n'a pas de séquences -> blocs d'ids dans la table id_generators, cf. TaskIdAllocator)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedTaskId
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -36,13 +47,20 @@ public class Task {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Column(name = "due_date")
     private LocalDate dueDate;
 
     @Column(nullable = false)
     @Builder.Default
     private boolean completed = false;
 
-    @JsonBackReference
+    // optimistic locking + ETag de GET /tasks/{id}
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0") // ddl-auto=update sur une base existante
+    private long version;
+
+    @JsonIgnore
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
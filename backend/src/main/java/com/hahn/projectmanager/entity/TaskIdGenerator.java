@@ -0,0 +1,55 @@
+package com.hahn.projectmanager.entity;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.resource.beans.container.spi.BeanContainer;
+import org.hibernate.resource.beans.internal.FallbackBeanInstanceProducer;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+
+import com.hahn.projectmanager.repository.TaskIdAllocator;
+
+/**
+ * Id generator behind {@link GeneratedTaskId}: delegates to the Spring {@link TaskIdAllocator} singleton.
+ */
+public class TaskIdGenerator implements BeforeExecutionGenerator {
+
+    // singleton Spring (le lookup "JPA compliant" par défaut créerait une nouvelle instance)
+    private static final BeanContainer.LifecycleOptions SHARED = new BeanContainer.LifecycleOptions() {
+        @Override
+        public boolean canUseCachedReferences() {
+            return true;
+        }
+
+        @Override
+        public boolean useJpaCompliantCreation() {
+            return false;
+        }
+    };
+
+    private volatile TaskIdAllocator allocator;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        TaskIdAllocator a = allocator;
+        if (a == null) {
+            BeanContainer container = session.getFactory().getServiceRegistry()
+                    .requireService(ManagedBeanRegistry.class)
+                    .getBeanContainer();
+            if (container == null) {
+                throw new IllegalStateException("Task ids need the Spring bean container (TaskIdAllocator)");
+            }
+            a = container.getBean(TaskIdAllocator.class, SHARED, FallbackBeanInstanceProducer.INSTANCE).getBeanInstance();
+            allocator = a;
+        }
+        return a.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
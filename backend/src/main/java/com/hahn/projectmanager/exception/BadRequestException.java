@@ -0,0 +1,8 @@
+package com.hahn.projectmanager.exception;
+
+// paramètre client invalide (cursor, sort...) -> 400 au lieu de 500
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
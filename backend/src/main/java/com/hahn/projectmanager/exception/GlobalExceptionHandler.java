@@ -2,14 +2,18 @@ package com.hahn.projectmanager.exception;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import jakarta.servlet.http.HttpServletRequest;
 
@@ -32,12 +36,54 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.BAD_REQUEST, "Validation failed", req.getRequestURI(), errors);
     }
 
+    // 400 paramètre invalide
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ApiError> handleBadRequest(BadRequestException ex, HttpServletRequest req) {
+        return build(HttpStatus.BAD_REQUEST, ex.getMessage(), req.getRequestURI(), null);
+    }
+
+    // 400 paramètre de requête non convertible (date mal formée, nombre...)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiError> handleTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest req) {
+        return build(HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + ex.getName() + "'", req.getRequestURI(), null);
+    }
+
+    // 400 import: ligne fautive + nombre de tasks déjà importées (chunks commités)
+    @ExceptionHandler(TaskImportException.class)
+    public ResponseEntity<ApiError> handleImport(TaskImportException ex, HttpServletRequest req) {
+        Map<String, String> details = new LinkedHashMap<>();
+        details.put("row", String.valueOf(ex.getRow()));
+        details.put("imported", String.valueOf(ex.getImported()));
+        return build(HttpStatus.BAD_REQUEST, ex.getMessage(), req.getRequestURI(), details);
+    }
+
     // 403
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ApiError> handleForbidden(AccessDeniedException ex, HttpServletRequest req) {
         return build(HttpStatus.FORBIDDEN, "Access denied", req.getRequestURI(), null);
     }
 
+    // 409: modifié par une autre requête entre la lecture et le commit (@Version)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleConflict(OptimisticLockingFailureException ex, HttpServletRequest req) {
+        return build(HttpStatus.CONFLICT, "Modified concurrently, reload and retry", req.getRequestURI(), null);
+    }
+
+    // 412: If-Match périmé
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiError> handlePreconditionFailed(PreconditionFailedException ex, HttpServletRequest req) {
+        return build(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), req.getRequestURI(), null);
+    }
+
+    // 429 / 503 (+ Retry-After)
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiError> handleBusy(ServiceBusyException ex, HttpServletRequest req) {
+        ResponseEntity<ApiError> res = build(ex.getStatus(), ex.getMessage(), req.getRequestURI(), null);
+        return ResponseEntity.status(res.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(res.getBody());
+    }
+
     // 500
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiError> handleGeneric(Exception ex, HttpServletRequest req) {
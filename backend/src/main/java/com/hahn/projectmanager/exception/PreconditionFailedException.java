@@ -0,0 +1,8 @@
+package com.hahn.projectmanager.exception;
+
+// If-Match ne correspond plus à la version courante -> 412
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
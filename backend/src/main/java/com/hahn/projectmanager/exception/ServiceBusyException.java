@@ -0,0 +1,24 @@
+package com.hahn.projectmanager.exception;
+
+import org.springframework.http.HttpStatus;
+
+// admission control: 429 (file pleine) ou 503 (attente trop longue), avec Retry-After
+public class ServiceBusyException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(HttpStatus status, String message, long retryAfterSeconds) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.hahn.projectmanager.exception;
+
+// ligne d'import invalide -> 400; les chunks déjà écrits restent (imported)
+public class TaskImportException extends RuntimeException {
+
+    private final long row;
+    private final long imported;
+
+    public TaskImportException(long row, long imported, String message) {
+        super("Row " + row + ": " + message);
+        this.row = row;
+        this.imported = imported;
+    }
+
+    public long getRow() {
+        return row;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+}
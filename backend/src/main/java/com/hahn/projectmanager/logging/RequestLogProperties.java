@@ -0,0 +1,28 @@
+package com.hahn.projectmanager.logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.request-log.*: one access line per sampled request.
+ *
+ * @param sampleRate default share of requests logged (0..1)
+ * @param routes     per-route rates, ant patterns, first match wins (e.g. routes[/api/projects/**]=0.1)
+ * @param slowMs     requests at least this slow are always logged, like 5xx responses
+ */
+@ConfigurationProperties(prefix = "app.request-log")
+public record RequestLogProperties(
+        Boolean enabled,
+        Double sampleRate,
+        Map<String, Double> routes,
+        Long slowMs
+) {
+    public RequestLogProperties {
+        enabled = enabled == null || enabled;
+        sampleRate = sampleRate == null ? 1.0 : sampleRate;
+        routes = routes == null ? Map.of() : new LinkedHashMap<>(routes);
+        slowMs = slowMs == null ? 1000L : slowMs;
+    }
+}
@@ -0,0 +1,115 @@
+package com.hahn.projectmanager.logging;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.hahn.projectmanager.metrics.RequestMetricsFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Correlation id + one structured access line per (sampled) request:
+ * {@code requestId=.. method=GET path=/api/.. status=200 durationMs=12 userId=4}.
+ * Runs before Spring Security so the line covers the whole chain. Headers are never logged and
+ * secret-looking query parameters are masked.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@EnableConfigurationProperties(RequestLogProperties.class)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_USER_ID = "userId";
+    // posé par JwtAuthFilter: le SecurityContext est déjà vidé quand la chaîne revient ici
+    public static final String USER_ID_ATTRIBUTE = RequestLoggingFilter.class.getName() + ".userId";
+
+    private static final Logger ACCESS = LoggerFactory.getLogger("http.access");
+    private static final Pattern SAFE_REQUEST_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final Set<String> SECRET_PARAMS = Set.of("token", "access_token", "password", "secret", "authorization", "key");
+
+    private final RequestLogProperties properties;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    public RequestLoggingFilter(RequestLogProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || !SAFE_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(MDC_REQUEST_ID, requestId);
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long durationMs = (System.nanoTime() - start) / 1_000_000;
+            Object userId = request.getAttribute(USER_ID_ATTRIBUTE);
+            if (properties.enabled() && shouldLog(request.getRequestURI(), response.getStatus(), durationMs)) {
+                ACCESS.info("requestId={} method={} path={} status={} durationMs={} userId={} sql={} sqlMs={}",
+                        requestId, request.getMethod(), redactedPath(request), response.getStatus(), durationMs,
+                        userId == null ? "-" : userId,
+                        request.getAttribute(RequestMetricsFilter.SQL_STATEMENTS_ATTRIBUTE),
+                        request.getAttribute(RequestMetricsFilter.SQL_MILLIS_ATTRIBUTE));
+            }
+            MDC.remove(MDC_USER_ID);
+            MDC.remove(MDC_REQUEST_ID);
+        }
+    }
+
+    // erreurs serveur et requêtes lentes toujours loguées, le reste échantillonné par route
+    private boolean shouldLog(String path, int status, long durationMs) {
+        if (status >= 500 || durationMs >= properties.slowMs()) {
+            return true;
+        }
+        double rate = properties.sampleRate();
+        for (Map.Entry<String, Double> route : properties.routes().entrySet()) {
+            if (matcher.match(route.getKey(), path)) {
+                rate = route.getValue();
+                break;
+            }
+        }
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static String redactedPath(HttpServletRequest request) {
+        String query = request.getQueryString();
+        if (query == null) {
+            return request.getRequestURI();
+        }
+        StringBuilder sb = new StringBuilder(request.getRequestURI()).append('?');
+        String[] params = query.split("&");
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                sb.append('&');
+            }
+            int eq = params[i].indexOf('=');
+            String name = eq < 0 ? params[i] : params[i].substring(0, eq);
+            sb.append(eq >= 0 && SECRET_PARAMS.contains(name.toLowerCase()) ? name + "=***" : params[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.hahn.projectmanager.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SQL cost of each request, per controller method: number of JDBC statements
+ * (http.server.requests.sql.statements) and time spent in them (http.server.requests.sql.time).
+ * The values are also left on the request for the access log and the tests.
+ * Requests over their statement budget, or repeating one statement (N+1), are logged as warnings.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1) // juste après RequestLoggingFilter
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    public static final String SQL_STATEMENTS_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".sqlStatements";
+    public static final String SQL_MILLIS_ATTRIBUTE = RequestMetricsFilter.class.getName() + ".sqlMillis";
+
+    private final MeterRegistry registry;
+    private final SqlBudgetProperties budget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlRequestStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlRequestStats stats = SqlRequestStats.end();
+            String handler = handlerName(request);
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .description("JDBC statements executed per request")
+                    .tag("handler", handler)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(stats.statements());
+            Timer.builder("http.server.requests.sql.time")
+                    .description("Time spent executing JDBC statements per request")
+                    .tag("handler", handler)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    .record(stats.nanos(), TimeUnit.NANOSECONDS);
+            request.setAttribute(SQL_STATEMENTS_ATTRIBUTE, stats.statements());
+            request.setAttribute(SQL_MILLIS_ATTRIBUTE, TimeUnit.NANOSECONDS.toMillis(stats.nanos()));
+            checkBudget(handler, stats);
+        }
+    }
+
+    private void checkBudget(String handler, SqlRequestStats stats) {
+        int max = budget.budgetOf(handler);
+        Map.Entry<String, Integer> repeated = stats.mostRepeated();
+        boolean overBudget = stats.statements() > max;
+        boolean nPlusOne = repeated != null && repeated.getValue() >= budget.repeatThreshold();
+        if (!overBudget && !nPlusOne) {
+            return;
+        }
+        registry.counter("http.server.requests.sql.over_budget", "handler", handler,
+                "reason", overBudget ? "budget" : "repeated").increment();
+        log.warn("SQL budget: {} ran {} statements (budget {}), most repeated {}x: {}",
+                handler, stats.statements(), max,
+                repeated == null ? 0 : repeated.getValue(), repeated == null ? "-" : repeated.getKey());
+    }
+
+    // "TaskController#getTasks", "none" quand aucun controller n'a été atteint (404, 401...)
+    static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        }
+        return "none";
+    }
+}
@@ -0,0 +1,29 @@
+package com.hahn.projectmanager.metrics;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * app.sql-budget.*: maximum JDBC statements per request before a warning.
+ *
+ * @param defaultMax      budget of handlers without their own entry
+ * @param handlers        per controller method, e.g. handlers[TaskController#getTasks]=3
+ * @param repeatThreshold the same SQL prepared this many times in one request is reported as a likely N+1
+ */
+@ConfigurationProperties(prefix = "app.sql-budget")
+public record SqlBudgetProperties(
+        Integer defaultMax,
+        Map<String, Integer> handlers,
+        Integer repeatThreshold
+) {
+    public SqlBudgetProperties {
+        defaultMax = defaultMax == null ? 10 : defaultMax;
+        handlers = handlers == null ? Map.of() : Map.copyOf(handlers);
+        repeatThreshold = repeatThreshold == null ? 5 : repeatThreshold;
+    }
+
+    public int budgetOf(String handler) {
+        return handlers.getOrDefault(handler, defaultMax);
+    }
+}
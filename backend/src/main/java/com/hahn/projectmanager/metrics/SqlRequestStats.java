@@ -0,0 +1,65 @@
+package com.hahn.projectmanager.metrics;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JDBC statements executed by the current request thread (all Hibernate sessions of the request).
+ * Opened/closed by {@link RequestMetricsFilter}, fed by {@link SqlStatementCounter} (executions, time)
+ * and {@link SqlStatementRecorder} (SQL text, to spot the same query repeated N times).
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private static final int MAX_DISTINCT_SQL = 100;
+
+    private int statements;
+    private long nanos;
+    private final Map<String, Integer> sqlCounts = new LinkedHashMap<>();
+
+    private SqlRequestStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new SqlRequestStats());
+    }
+
+    public static SqlRequestStats end() {
+        SqlRequestStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    // hors requête HTTP (schedulers, startup): ignoré
+    static void record(long elapsedNanos) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += elapsedNanos;
+        }
+    }
+
+    static void recordSql(String sql) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats != null && (stats.sqlCounts.size() < MAX_DISTINCT_SQL || stats.sqlCounts.containsKey(sql))) {
+            stats.sqlCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+
+    // statement préparé le plus souvent pendant la requête (N+1: même SELECT par id en boucle)
+    public Map.Entry<String, Integer> mostRepeated() {
+        return sqlCounts.entrySet().stream()
+                .max(Comparator.comparingInt(Map.Entry::getValue))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.hahn.projectmanager.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Per-session Hibernate listener (hibernate.session.events.auto): every executed statement or
+ * batch is added to the current request's {@link SqlRequestStats}.
+ */
+public class SqlStatementCounter extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestStats.record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlRequestStats.record(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,16 @@
+package com.hahn.projectmanager.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate StatementInspector (hibernate.session_factory.statement_inspector): keeps the SQL text
+ * of each prepared statement for the current request, unchanged.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats.recordSql(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,223 @@
+package com.hahn.projectmanager.push;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory fan-out of server-sent events to the open streams of each user.
+ * An idle stream is an async request (no thread) plus a small bounded queue. Publishing only enqueues;
+ * a few dispatch threads write to the sockets, one drain at a time per stream. A stream whose queue is full
+ * (client not reading) is closed instead of buffering without limit: EventSource reconnects
+ * and the client catches up with GET /api/changes.
+ */
+@Slf4j
+@Component
+public class PushHub implements DisposableBean {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final int bufferSize;
+    private final int maxStreamsPerUser;
+    private final long timeoutMs;
+
+    private final Counter droppedSlow;
+    private final Counter droppedLimit;
+    private final Counter sent;
+
+    @Autowired
+    public PushHub(
+            MeterRegistry registry,
+            @Value("${app.push.buffer-size:32}") int bufferSize,
+            @Value("${app.push.max-streams-per-user:5}") int maxStreamsPerUser,
+            @Value("${app.push.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.push.dispatch-threads:2}") int dispatchThreads
+    ) {
+        this(registry, bufferSize, maxStreamsPerUser, timeoutMs, dispatchPool(dispatchThreads));
+    }
+
+    PushHub(MeterRegistry registry, int bufferSize, int maxStreamsPerUser, long timeoutMs, ExecutorService dispatcher) {
+        this.bufferSize = bufferSize;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        this.timeoutMs = timeoutMs;
+        this.dispatcher = dispatcher;
+
+        Gauge.builder("push.streams", open, AtomicInteger::get)
+                .description("Open server-sent event streams")
+                .register(registry);
+        this.droppedSlow = dropped(registry, "slow_consumer");
+        this.droppedLimit = dropped(registry, "too_many_streams");
+        this.sent = Counter.builder("push.events.sent").register(registry);
+    }
+
+    private static ExecutorService dispatchPool(int threads) {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "push-dispatch-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static Counter dropped(MeterRegistry registry, String reason) {
+        return Counter.builder("push.streams.dropped")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber sub = new Subscriber(userId, emitter);
+        List<Subscriber> evicted = new ArrayList<>(1);
+        // limite + ajout atomiques pour cet user: un remove concurrent ne peut pas vider puis
+        // retirer de la map le set dans lequel on ajoute (le flux resterait orphelin)
+        subscribers.compute(userId, (id, current) -> {
+            Set<Subscriber> mine = current != null ? current : ConcurrentHashMap.newKeySet();
+            // onglets oubliés: le plus ancien flux de l'user laisse sa place
+            if (mine.size() >= maxStreamsPerUser) {
+                mine.stream().min((a, b) -> Long.compare(a.openedAt, b.openedAt)).ifPresent(oldest -> {
+                    mine.remove(oldest);
+                    open.decrementAndGet();
+                    evicted.add(oldest);
+                });
+            }
+            mine.add(sub);
+            open.incrementAndGet();
+            return mine;
+        });
+        // hors du compute: complete() peut rappeler remove() sur la même clé
+        evicted.forEach(oldest -> {
+            droppedLimit.increment();
+            oldest.emitter.complete();
+        });
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> close(sub));
+        emitter.onError(e -> remove(sub));
+        // envoie les en-têtes tout de suite: le client sait que le flux est ouvert
+        sub.offer(SseEmitter.event().name("ready").data("ok"));
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        Set<Subscriber> mine = subscribers.get(userId);
+        return mine != null && !mine.isEmpty();
+    }
+
+    public void publish(Long userId, String event, Object data) {
+        Set<Subscriber> mine = subscribers.get(userId);
+        if (mine == null) {
+            return;
+        }
+        for (Subscriber sub : mine) {
+            sub.offer(SseEmitter.event().name(event).data(data));
+        }
+    }
+
+    // keep-alive pour les proxies, et détection des clients partis (échec d'écriture)
+    @Scheduled(fixedDelayString = "${app.push.heartbeat-ms:30000}", initialDelayString = "${app.push.heartbeat-ms:30000}")
+    public void heartbeat() {
+        subscribers.values().forEach(mine -> mine.forEach(sub -> sub.offer(SseEmitter.event().comment("ping"))));
+    }
+
+    public int openStreams() {
+        return open.get();
+    }
+
+    private void remove(Subscriber sub) {
+        subscribers.computeIfPresent(sub.userId, (id, mine) -> {
+            if (mine.remove(sub)) {
+                open.decrementAndGet();
+            }
+            return mine.isEmpty() ? null : mine;
+        });
+    }
+
+    private void close(Subscriber sub) {
+        remove(sub);
+        sub.emitter.complete();
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(mine -> mine.forEach(this::close));
+        dispatcher.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final long openedAt = System.nanoTime();
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                // le client ne lit plus: on coupe plutôt que de bufferiser sans fin
+                droppedSlow.increment();
+                log.debug("Push stream of user {} dropped, {} events pending", userId, queue.size());
+                close(this);
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false); // arrêt en cours
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event);
+                    sent.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // client parti ou flux déjà terminé
+                remove(this);
+                queue.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // publié entre le dernier poll et le reset du flag
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.hahn.projectmanager.push;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hahn.projectmanager.dto.ProjectProgressResponse;
+import com.hahn.projectmanager.dto.TaskChangedEvent;
+import com.hahn.projectmanager.service.ProgressService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes "task-changed" and "progress-changed" to the owner's open streams once the task write commits
+ * (a rollback is never pushed). Nothing is read or built when the owner has no stream open.
+ */
+@Slf4j
+@Component
+public class TaskEventPublisher {
+
+    public static final String TASK_CHANGED = "task-changed";
+    public static final String PROGRESS_CHANGED = "progress-changed";
+
+    private final PushHub hub;
+    private final ProgressService progressService;
+    private final TransactionTemplate readTransaction;
+
+    public TaskEventPublisher(PushHub hub, ProgressService progressService, PlatformTransactionManager transactionManager) {
+        this.hub = hub;
+        this.progressService = progressService;
+        // afterCommit: la transaction de l'écriture est validée mais encore liée au thread, on n'y participe pas
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public void tasksChanged(Long ownerId, Long projectId, Collection<Long> taskIds, boolean deleted, boolean countersChanged) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        List<Long> copy = List.copyOf(taskIds);
+        afterCommit(() -> {
+            if (!hub.hasSubscribers(ownerId)) {
+                return;
+            }
+            hub.publish(ownerId, TASK_CHANGED, new TaskChangedEvent(projectId, copy, deleted));
+            if (countersChanged) {
+                // même forme que GET /api/projects/progress, une requête sur la ligne du project
+                List<ProjectProgressResponse> progress = readTransaction.execute(
+                        tx -> progressService.getProgressBatch(ownerId, List.of(projectId)));
+                progress.forEach(p -> hub.publish(ownerId, PROGRESS_CHANGED, p));
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException ex) {
+                    // déjà validé en base: le client rattrape via GET /api/changes
+                    log.warn("Push of task change failed: {}", ex.getMessage());
+                }
+            }
+        });
+    }
+}
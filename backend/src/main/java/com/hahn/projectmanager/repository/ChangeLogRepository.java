@@ -0,0 +1,52 @@
+package com.hahn.projectmanager.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hahn.projectmanager.entity.ChangeLogEntry;
+
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, ChangeLogEntry.Key> {
+
+    @Query("""
+            select e from ChangeLogEntry e
+            where e.ownerId = :ownerId and e.seq > :after and e.seq <= :until
+            order by e.seq
+            """)
+    List<ChangeLogEntry> findPage(@Param("ownerId") Long ownerId,
+                                  @Param("after") long after,
+                                  @Param("until") long until,
+                                  Pageable pageable);
+
+    // compaction: entries with a newer entry for the same entity (the newer one carries the state)
+    @Query("""
+            select e.ownerId as ownerId, e.seq as seq from ChangeLogEntry e
+            where exists (
+                select 1 from ChangeLogEntry n
+                where n.ownerId = e.ownerId and n.entityType = e.entityType
+                  and n.entityId = e.entityId and n.seq > e.seq)
+            """)
+    List<EntryKey> findSuperseded(Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from ChangeLogEntry e where e.ownerId = :ownerId and e.seq in :seqs")
+    int deleteByOwnerIdAndSeqIn(@Param("ownerId") Long ownerId, @Param("seqs") Collection<Long> seqs);
+
+    @Modifying
+    @Transactional
+    @Query("delete from ChangeLogEntry e where e.changedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+
+    interface EntryKey {
+        Long getOwnerId();
+        Long getSeq();
+    }
+}
@@ -0,0 +1,24 @@
+package com.hahn.projectmanager.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hahn.projectmanager.entity.ChangeSequence;
+
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, Long> {
+
+    // before dropping old entries: cursors at or below the last dropped seq must resync
+    @Modifying
+    @Transactional
+    @Query("""
+            update ChangeSequence s
+            set s.floorSeq = (select max(e.seq) from ChangeLogEntry e where e.ownerId = s.ownerId and e.changedAt < :cutoff)
+            where exists (select 1 from ChangeLogEntry e where e.ownerId = s.ownerId and e.changedAt < :cutoff)
+            """)
+    int raiseFloors(@Param("cutoff") Instant cutoff);
+}
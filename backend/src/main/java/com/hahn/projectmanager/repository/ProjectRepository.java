@@ -1,15 +1,141 @@
 package com.hahn.projectmanager.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.hahn.projectmanager.dto.ProjectSummary;
 import com.hahn.projectmanager.entity.Project;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
     List<Project> findByOwnerId(Long ownerId);
 
     Page<Project> findByOwnerId(Long ownerId, Pageable pageable);
+
+    // list projections: only the columns the list needs, no entity / tasks collection
+    @Query("""
+            select new com.hahn.projectmanager.dto.ProjectSummary(p.id, p.title, p.description, p.totalTasks, p.completedTasks)
+            from Project p
+            where p.owner.id = :ownerId
+            order by p.id
+            """)
+    List<ProjectSummary> findSummariesByOwnerId(@Param("ownerId") Long ownerId);
+
+    // delta sync: états courants des projects touchés (les ids absents = supprimés)
+    @Query("""
+            select new com.hahn.projectmanager.dto.ProjectSummary(p.id, p.title, p.description, p.totalTasks, p.completedTasks)
+            from Project p
+            where p.owner.id = :ownerId and p.id in :ids
+            order by p.id
+            """)
+    List<ProjectSummary> findSummariesByOwnerIdAndIdIn(@Param("ownerId") Long ownerId, @Param("ids") Collection<Long> ids);
+
+    @Query(value = """
+            select new com.hahn.projectmanager.dto.ProjectSummary(p.id, p.title, p.description, p.totalTasks, p.completedTasks)
+            from Project p
+            where p.owner.id = :ownerId
+            """,
+            countQuery = "select count(p) from Project p where p.owner.id = :ownerId")
+    Page<ProjectSummary> findSummariesByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    // keyset pagination: seek after (sortKey, id), Slice => no COUNT query
+    @Query("""
+            select new com.hahn.projectmanager.dto.ProjectSummary(p.id, p.title, p.description, p.totalTasks, p.completedTasks)
+            from Project p
+            where p.owner.id = :ownerId and p.id > :afterId
+            order by p.id
+            """)
+    Slice<ProjectSummary> findSliceByOwnerIdAfterId(@Param("ownerId") Long ownerId,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    @Query("""
+            select new com.hahn.projectmanager.dto.ProjectSummary(p.id, p.title, p.description, p.totalTasks, p.completedTasks)
+            from Project p
+            where p.owner.id = :ownerId
+              and (p.title > :afterTitle or (p.title = :afterTitle and p.id > :afterId))
+            order by p.title, p.id
+            """)
+    Slice<ProjectSummary> findSliceByOwnerIdAfterTitle(@Param("ownerId") Long ownerId,
+                                                @Param("afterTitle") String afterTitle,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
+
+    long countByOwnerId(Long ownerId);
+
+    @Query("select p.totalTasks from Project p where p.id = :projectId")
+    long findTotalTasksById(@Param("projectId") Long projectId);
+
+    Optional<Project> findByIdAndOwnerId(Long id, Long ownerId);
+
+    boolean existsByIdAndOwnerId(Long id, Long ownerId);
+
+    // progress of every project of the owner, read from the denormalized counters
+    @Query("""
+            select p.id as projectId, p.totalTasks as totalTasks, p.completedTasks as completedTasks
+            from Project p
+            where p.owner.id = :ownerId
+            """)
+    List<TaskCounts> findTaskCountsByOwnerId(@Param("ownerId") Long ownerId);
+
+    @Query("""
+            select p.id as projectId, p.totalTasks as totalTasks, p.completedTasks as completedTasks
+            from Project p
+            where p.owner.id = :ownerId and p.id in :projectIds
+            """)
+    List<TaskCounts> findTaskCountsByOwnerIdAndProjectIds(@Param("ownerId") Long ownerId,
+                                                      @Param("projectIds") Collection<Long> projectIds);
+
+    // ETags: versions only, no entity loaded
+    @Query("""
+            select p.id as projectId, p.version as version, p.tasksVersion as tasksVersion
+            from Project p
+            where p.owner.id = :ownerId
+            order by p.id
+            """)
+    List<Versions> findVersionsByOwnerId(@Param("ownerId") Long ownerId);
+
+    // owner inclus: la réparation est aussi écrite dans le change log de l'owner
+    @Query("""
+            select p.id as projectId, p.owner.id as ownerId from Project p
+            where p.totalTasks <> (select count(t) from Task t where t.project.id = p.id)
+               or p.completedTasks <> (select count(t) from Task t where t.project.id = p.id and t.completed = true)
+            """)
+    List<Owned> findWithTaskCounterDrift();
+
+    // JPQL: évince toute la région projects, acceptable pour le reconciler (rare, hors chemin des requêtes)
+    @Modifying
+    @Query("""
+            update Project p
+            set p.totalTasks = (select count(t) from Task t where t.project.id = p.id),
+                p.completedTasks = (select count(t) from Task t where t.project.id = p.id and t.completed = true),
+                p.tasksVersion = p.tasksVersion + 1
+            where p.id in :projectIds
+            """)
+    int recomputeTaskCounters(@Param("projectIds") Collection<Long> projectIds);
+
+    interface Versions {
+        Long getProjectId();
+        long getVersion();
+        long getTasksVersion();
+    }
+
+    interface Owned {
+        Long getProjectId();
+        Long getOwnerId();
+    }
+
+    interface TaskCounts {
+        Long getProjectId();
+        long getTotalTasks();
+        long getCompletedTasks();
+    }
 }
@@ -0,0 +1,10 @@
+package com.hahn.projectmanager.repository;
+
+public interface ProjectRepositoryCustom {
+
+    // atomic increment/decrement, no read-modify-write on the project row (bumps the tasks version too)
+    int adjustTaskCounters(Long projectId, long totalDelta, long completedDelta);
+
+    // task edited without counter change (title, description, due date)
+    int touchTasks(Long projectId);
+}
@@ -0,0 +1,68 @@
+package com.hahn.projectmanager.repository;
+
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hahn.projectmanager.entity.Project;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Fragment of ProjectRepository (Impl suffix). A bulk JPQL update on Project makes Hibernate evict the
+ * whole projects cache region, on every task write of any user. These run as native updates declaring
+ * no query space (no region touched) and evict only the project they changed.
+ */
+class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int adjustTaskCounters(Long projectId, long totalDelta, long completedDelta) {
+        return update("""
+                update projects
+                set total_tasks = total_tasks + :totalDelta,
+                    completed_tasks = completed_tasks + :completedDelta,
+                    tasks_version = tasks_version + 1
+                where id = :projectId
+                """, projectId, totalDelta, completedDelta);
+    }
+
+    @Override
+    @Transactional
+    public int touchTasks(Long projectId) {
+        return update("update projects set tasks_version = tasks_version + 1 where id = :projectId", projectId, null, null);
+    }
+
+    private int update(String sql, Long projectId, Long totalDelta, Long completedDelta) {
+        // équivalent de flushAutomatically: les écritures en attente partent avant l'UPDATE
+        entityManager.flush();
+        NativeQuery<?> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("")
+                .setParameter("projectId", projectId);
+        if (totalDelta != null) {
+            query.setParameter("totalDelta", totalDelta).setParameter("completedDelta", completedDelta);
+        }
+        int updated = query.executeUpdate();
+        evict(projectId);
+        return updated;
+    }
+
+    // tout de suite, et à nouveau après le commit: une lecture concurrente a pu remettre l'ancienne ligne en cache
+    private void evict(Long projectId) {
+        entityManager.getEntityManagerFactory().getCache().evict(Project.class, projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entityManager.getEntityManagerFactory().getCache().evict(Project.class, projectId);
+                }
+            });
+        }
+    }
+}
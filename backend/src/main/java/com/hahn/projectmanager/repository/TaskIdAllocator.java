@@ -0,0 +1,86 @@
+package com.hahn.projectmanager.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import com.hahn.projectmanager.entity.Task;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Hands out Task ids by blocks of {@link Task#ID_ALLOCATION_SIZE} from the {@code id_generators} row.
+ *
+ * Hibernate's table generator borrows a second connection from the application pool while the inserting
+ * transaction still holds its own: once every pooled connection belongs to an insert, they all wait on
+ * each other until the pool timeout. Blocks are fetched on a dedicated one-connection pool instead.
+ */
+@Component
+public class TaskIdAllocator implements DisposableBean {
+
+    private final HikariDataSource dataSource;
+    private final ReentrantLock lock = new ReentrantLock(); // pas synchronized: pinnerait un virtual thread pendant le JDBC
+
+    private long next;
+    private long limit; // exclusive
+
+    public TaskIdAllocator(DataSourceProperties properties) {
+        this.dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        this.dataSource.setPoolName("task-ids");
+        this.dataSource.setMaximumPoolSize(1);
+        this.dataSource.setMinimumIdle(0);
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                next = fetchBlock();
+                limit = next + Task.ID_ALLOCATION_SIZE;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // row lock => blocks stay disjoint between several app instances
+    private long fetchBlock() {
+        try (Connection c = dataSource.getConnection()) {
+            c.setAutoCommit(false);
+            try (PreparedStatement select = c.prepareStatement(
+                         "select next_val from " + Task.ID_TABLE + " where name = ? for update");
+                 PreparedStatement update = c.prepareStatement(
+                         "update " + Task.ID_TABLE + " set next_val = ? where name = ?")) {
+                select.setString(1, Task.ID_SEGMENT);
+                long start;
+                try (ResultSet rs = select.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new IllegalStateException("Missing '" + Task.ID_SEGMENT + "' row in " + Task.ID_TABLE);
+                    }
+                    start = rs.getLong(1);
+                }
+                update.setLong(1, start + Task.ID_ALLOCATION_SIZE);
+                update.setString(2, Task.ID_SEGMENT);
+                update.executeUpdate();
+                c.commit();
+                return start;
+            } catch (SQLException | RuntimeException e) {
+                c.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot allocate task ids", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+}
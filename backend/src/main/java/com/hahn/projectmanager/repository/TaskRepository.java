@@ -1,18 +1,176 @@
 package com.hahn.projectmanager.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.hahn.projectmanager.dto.AgendaItem;
+import com.hahn.projectmanager.dto.TaskSummary;
 import com.hahn.projectmanager.entity.Task;
+import com.hahn.projectmanager.search.TaskDocument;
+
+import jakarta.persistence.QueryHint;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByProjectId(Long projectId);
 
     Page<Task> findByProjectId(Long projectId, Pageable pageable);
 
+    // list projections: no entity hydration, no lazy project proxy
+    @Query("""
+            select new com.hahn.projectmanager.dto.TaskSummary(t.id, t.title, t.description, t.dueDate, t.completed, t.project.id)
+            from Task t
+            where t.project.id = :projectId
+            order by t.id
+            """)
+    List<TaskSummary> findSummariesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("""
+            select new com.hahn.projectmanager.dto.TaskSummary(t.id, t.title, t.description, t.dueDate, t.completed, t.project.id)
+            from Task t
+            where t.project.owner.id = :ownerId and t.id in :ids
+            order by t.id
+            """)
+    List<TaskSummary> findSummariesByOwnerIdAndIdIn(@Param("ownerId") Long ownerId, @Param("ids") Collection<Long> ids);
+
+    @Query(value = """
+            select new com.hahn.projectmanager.dto.TaskSummary(t.id, t.title, t.description, t.dueDate, t.completed, t.project.id)
+            from Task t
+            where t.project.id = :projectId
+            """,
+            countQuery = "select count(t) from Task t where t.project.id = :projectId")
+    Page<TaskSummary> findSummariesByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    // export: rows pulled from a DB cursor (needs an open transaction, close the stream)
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            select new com.hahn.projectmanager.dto.TaskSummary(t.id, t.title, t.description, t.dueDate, t.completed, t.project.id)
+            from Task t
+            where t.project.id = :projectId
+            order by t.id
+            """)
+    Stream<TaskSummary> streamSummariesByProjectId(@Param("projectId") Long projectId);
+
+    // agenda: tâches non terminées de tous les projects de l'owner, une requête bornée par bucket
+    // (range sur idx_tasks_project_completed_due pour chaque project de l'owner)
+    @Query("""
+            select new com.hahn.projectmanager.dto.AgendaItem(t.id, t.title, t.dueDate, p.id, p.title)
+            from Task t join t.project p
+            where p.owner.id = :ownerId
+              and t.completed = false
+              and t.dueDate < :before
+            order by t.dueDate, t.id
+            """)
+    List<AgendaItem> findAgendaOverdue(@Param("ownerId") Long ownerId, @Param("before") LocalDate before, Pageable pageable);
+
+    @Query("""
+            select new com.hahn.projectmanager.dto.AgendaItem(t.id, t.title, t.dueDate, p.id, p.title)
+            from Task t join t.project p
+            where p.owner.id = :ownerId
+              and t.completed = false
+              and t.dueDate >= :from
+              and t.dueDate <= :until
+            order by t.dueDate, t.id
+            """)
+    List<AgendaItem> findAgendaBetween(@Param("ownerId") Long ownerId, @Param("from") LocalDate from,
+                                       @Param("until") LocalDate until, Pageable pageable);
+
+    // search index feed (owner id comes from the projects.user_id FK)
+    @Query("""
+            select new com.hahn.projectmanager.search.TaskDocument(
+                t.id, p.id, p.owner.id, t.title, t.description, t.dueDate, t.completed)
+            from Task t join t.project p
+            where t.id in :ids
+            """)
+    List<TaskDocument> findDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            select new com.hahn.projectmanager.search.TaskDocument(
+                t.id, p.id, p.owner.id, t.title, t.description, t.dueDate, t.completed)
+            from Task t join t.project p
+            """)
+    Stream<TaskDocument> streamAllDocuments();
+
+    // keyset pagination: seek after (sortKey, id), Slice => no COUNT query
+    @Query("""
+            select new com.hahn.projectmanager.dto.TaskSummary(t.id, t.title, t.description, t.dueDate, t.completed, t.project.id)
+            from Task t
+            where t.project.id = :projectId and t.id > :afterId
+            order by t.id
+            """)
+    Slice<TaskSummary> findSliceByProjectIdAfterId(@Param("projectId") Long projectId,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
+    @Query("""
+            select new com.hahn.projectmanager.dto.TaskSummary(t.id, t.title, t.description, t.dueDate, t.completed, t.project.id)
+            from Task t
+            where t.project.id = :projectId
+              and (t.title > :afterTitle or (t.title = :afterTitle and t.id > :afterId))
+            order by t.title, t.id
+            """)
+    Slice<TaskSummary> findSliceByProjectIdAfterTitle(@Param("projectId") Long projectId,
+                                               @Param("afterTitle") String afterTitle,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    // task + ownership in one predicate (owner id is the projects.user_id FK, no join on users)
+    @Query("""
+            select t from Task t join fetch t.project p
+            where t.id = :taskId and p.id = :projectId and p.owner.id = :ownerId
+            """)
+    Optional<Task> findOwnedTask(@Param("taskId") Long taskId,
+                                 @Param("projectId") Long projectId,
+                                 @Param("ownerId") Long ownerId);
+
+    @Query("""
+            select t.version from Task t
+            where t.id = :taskId and t.project.id = :projectId and t.project.owner.id = :ownerId
+            """)
+    Optional<Long> findOwnedTaskVersion(@Param("taskId") Long taskId,
+                                        @Param("projectId") Long projectId,
+                                        @Param("ownerId") Long ownerId);
+
+    // bulk operations: every statement is scoped to the project already checked for ownership
+    List<Task> findByProjectIdAndIdIn(Long projectId, Collection<Long> ids);
+
+    @Query("""
+            select count(t) as totalTasks,
+                   coalesce(sum(case when t.completed = true then 1 else 0 end), 0) as completedTasks
+            from Task t
+            where t.project.id = :projectId and t.id in :ids
+            """)
+    BulkCounts countByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t set t.completed = case when t.completed = true then false else true end,
+                t.version = t.version + 1
+            where t.project.id = :projectId and t.id in :ids
+            """)
+    int toggleByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Task t where t.project.id = :projectId and t.id in :ids")
+    int deleteByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    interface BulkCounts {
+        long getTotalTasks();
+        long getCompletedTasks();
+    }
+
     long countByProjectId(Long projectId);
 
     long countByProjectIdAndCompletedTrue(Long projectId);
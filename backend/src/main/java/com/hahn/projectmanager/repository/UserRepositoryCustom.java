@@ -0,0 +1,11 @@
+package com.hahn.projectmanager.repository;
+
+import java.util.Optional;
+
+import com.hahn.projectmanager.entity.User;
+
+public interface UserRepositoryCustom {
+
+    // natural-id lookup: email -> id -> User, both from the second-level cache when present
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,14 @@
+package com.hahn.projectmanager.search;
+
+import java.time.LocalDate;
+
+// what the search index knows about a task (ownerId = filter, title/description = full text)
+public record TaskDocument(
+        Long taskId,
+        Long projectId,
+        Long ownerId,
+        String title,
+        String description,
+        LocalDate dueDate,
+        boolean completed
+) {}
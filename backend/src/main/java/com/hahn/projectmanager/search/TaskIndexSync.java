@@ -0,0 +1,115 @@
+package com.hahn.projectmanager.search;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hahn.projectmanager.repository.TaskRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps TaskSearchIndex in sync with the tasks table. Called from the service write methods;
+ * changes are applied only after the surrounding transaction commits (a rollback never reaches the index).
+ *
+ * Rows are re-read by id after the commit rather than indexed from the entity state of the writing
+ * transaction, and each read + write runs under one lock: the hook that runs last always indexes the
+ * latest committed state, whatever order two concurrent commits ran their hooks in.
+ */
+@Slf4j
+@Component
+public class TaskIndexSync {
+
+    private static final int READ_CHUNK = 1000;
+
+    private final TaskSearchIndex index;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readTransaction;
+    private final ReentrantLock lock = new ReentrantLock(); // pas synchronized: virtual threads
+
+    public TaskIndexSync(TaskSearchIndex index, TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.index = index;
+        this.taskRepository = taskRepository;
+        // nouvelle transaction: celle de l'écriture est déjà validée quand le hook tourne
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    // created or updated rows (ids absent from the table are removed from the index)
+    public void reindex(Collection<Long> taskIds) {
+        List<Long> copy = List.copyOf(taskIds);
+        afterCommit(() -> locked(() -> {
+            for (int from = 0; from < copy.size(); from += READ_CHUNK) {
+                List<Long> ids = copy.subList(from, Math.min(from + READ_CHUNK, copy.size()));
+                List<TaskDocument> docs = readTransaction.execute(tx -> taskRepository.findDocumentsByIdIn(ids));
+                index.upsert(docs);
+                if (docs.size() < ids.size()) {
+                    Set<Long> found = docs.stream().map(TaskDocument::taskId).collect(Collectors.toSet());
+                    index.delete(ids.stream().filter(id -> !found.contains(id)).toList());
+                }
+            }
+        }));
+    }
+
+    public void delete(Collection<Long> taskIds) {
+        List<Long> copy = List.copyOf(taskIds);
+        afterCommit(() -> locked(() -> index.delete(copy)));
+    }
+
+    public void deleteProject(Long projectId) {
+        afterCommit(() -> locked(() -> index.deleteProject(projectId)));
+    }
+
+    private void locked(Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // index vide (premier démarrage, index en mémoire) ou désynchronisé -> reconstruction
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIfOutOfSync() {
+        long tasks = taskRepository.count();
+        if (tasks == index.numDocs()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long n = index.rebuild(taskRepository.streamAllDocuments());
+        log.info("Task search index rebuilt: {} docs in {} ms", n, System.currentTimeMillis() - start);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException ex) {
+                    // l'écriture DB est déjà validée: on log, la prochaine reconstruction rattrapera
+                    log.warn("Search index update failed: {}", ex.getMessage());
+                }
+            }
+        });
+    }
+}
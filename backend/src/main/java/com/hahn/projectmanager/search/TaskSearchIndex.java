@@ -0,0 +1,275 @@
+package com.hahn.projectmanager.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hahn.projectmanager.dto.TaskSearchHit;
+import com.hahn.projectmanager.dto.TaskSearchResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded Lucene inverted index over Task.title / Task.description.
+ * Writes are applied incrementally (see TaskIndexSync); searchers are reopened lazily,
+ * only when a search comes in after a write. The index lives in app.search.index-dir
+ * (in memory when empty) and is committed to disk periodically and on shutdown.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex implements DisposableBean {
+
+    static final String F_ID = "id";
+    static final String F_PROJECT = "projectId";
+    static final String F_OWNER = "ownerId";
+    static final String F_TITLE = "title";
+    static final String F_DESCRIPTION = "description";
+    static final String F_DUE = "dueDate";
+    static final String F_COMPLETED = "completed";
+
+    private static final float TITLE_BOOST = 2.0f;
+    private static final float PREFIX_BOOST = 0.3f;
+    public static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final AtomicBoolean uncommitted = new AtomicBoolean(false);
+
+    public TaskSearchIndex(@Value("${app.search.index-dir:}") String indexDir) throws IOException {
+        this.directory = (indexDir == null || indexDir.isBlank())
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexDir));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+        log.info("Task search index opened ({}), {} docs",
+                indexDir == null || indexDir.isBlank() ? "in-memory" : indexDir, writer.getDocStats().numDocs);
+    }
+
+    // ===== writes =====
+
+    public void upsert(Collection<TaskDocument> docs) {
+        try {
+            for (TaskDocument d : docs) {
+                writer.updateDocument(new Term(F_ID, d.taskId().toString()), toDocument(d));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        markChanged();
+    }
+
+    public void delete(Collection<Long> taskIds) {
+        try {
+            Term[] terms = taskIds.stream().map(id -> new Term(F_ID, id.toString())).toArray(Term[]::new);
+            writer.deleteDocuments(terms);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        markChanged();
+    }
+
+    public void deleteProject(Long projectId) {
+        try {
+            writer.deleteDocuments(new Term(F_PROJECT, projectId.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        markChanged();
+    }
+
+    public long rebuild(Stream<TaskDocument> all) {
+        try {
+            writer.deleteAll();
+            long[] n = {0};
+            all.forEach(d -> {
+                try {
+                    writer.addDocument(toDocument(d));
+                    n[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.commit();
+            markChanged();
+            return n[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int numDocs() {
+        return writer.getDocStats().numDocs;
+    }
+
+    // ===== reads =====
+
+    public TaskSearchResponse search(Long ownerId, String q, int page, int size) {
+        long start = System.nanoTime();
+        List<String> tokens = analyze(q);
+        if (tokens.isEmpty()) {
+            return new TaskSearchResponse(q, List.of(), 0, page, size, 0);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(F_OWNER, ownerId.toString())), Occur.FILTER);
+        for (int i = 0; i < tokens.size(); i++) {
+            // dernier mot: préfixe (saisie en cours)
+            boolean last = i == tokens.size() - 1;
+            query.add(anyField(tokens.get(i), last), Occur.MUST);
+        }
+
+        // en long: (page + 1) * size déborde en int pour un page très grand
+        int wanted = (int) Math.min((page + 1L) * size, MAX_RESULT_WINDOW);
+        try {
+            refreshIfDirty();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query.build(), wanted);
+                List<TaskSearchHit> hits = new ArrayList<>(size);
+                var storedFields = searcher.storedFields();
+                for (int i = page * size; i < top.scoreDocs.length; i++) {
+                    ScoreDoc sd = top.scoreDocs[i];
+                    hits.add(toHit(storedFields.document(sd.doc), sd.score));
+                }
+                double tookMs = (System.nanoTime() - start) / 1_000_000.0;
+                return new TaskSearchResponse(q, hits, top.totalHits.value, page, size, tookMs);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // exact term (scored, BM25) on title^2 / description; prefix variants only for the last word
+    private Query anyField(String token, boolean prefix) {
+        BooleanQuery.Builder b = new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(new Term(F_TITLE, token)), TITLE_BOOST), Occur.SHOULD)
+                .add(new TermQuery(new Term(F_DESCRIPTION, token)), Occur.SHOULD);
+        if (prefix) {
+            b.add(new BoostQuery(new PrefixQuery(new Term(F_TITLE, token)), PREFIX_BOOST * TITLE_BOOST), Occur.SHOULD)
+             .add(new BoostQuery(new PrefixQuery(new Term(F_DESCRIPTION, token)), PREFIX_BOOST), Occur.SHOULD);
+        }
+        return b.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        try (TokenStream ts = analyzer.tokenStream(F_TITLE, text)) {
+            CharTermAttribute term = ts.addAttribute(CharTermAttribute.class);
+            ts.reset();
+            while (ts.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            ts.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    // ===== lifecycle =====
+
+    private void markChanged() {
+        dirty.set(true);
+        uncommitted.set(true);
+    }
+
+    private void refreshIfDirty() throws IOException {
+        if (dirty.compareAndSet(true, false)) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:30000}")
+    public void commit() {
+        if (uncommitted.compareAndSet(true, false)) {
+            try {
+                writer.commit();
+            } catch (IOException e) {
+                uncommitted.set(true);
+                log.warn("Search index commit failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static Document toDocument(TaskDocument d) {
+        Document doc = new Document();
+        doc.add(new StringField(F_ID, d.taskId().toString(), Field.Store.YES));
+        doc.add(new StringField(F_PROJECT, d.projectId().toString(), Field.Store.YES));
+        doc.add(new StringField(F_OWNER, d.ownerId().toString(), Field.Store.NO));
+        doc.add(new TextField(F_TITLE, d.title(), Field.Store.YES));
+        if (d.description() != null) {
+            doc.add(new TextField(F_DESCRIPTION, d.description(), Field.Store.NO));
+        }
+        if (d.dueDate() != null) {
+            doc.add(new StoredField(F_DUE, d.dueDate().toString()));
+        }
+        doc.add(new StoredField(F_COMPLETED, d.completed() ? 1 : 0));
+        return doc;
+    }
+
+    private static TaskSearchHit toHit(Document doc, float score) {
+        String due = doc.get(F_DUE);
+        return new TaskSearchHit(
+                Long.valueOf(doc.get(F_ID)),
+                Long.valueOf(doc.get(F_PROJECT)),
+                doc.get(F_TITLE),
+                due == null ? null : LocalDate.parse(due),
+                doc.getField(F_COMPLETED).numericValue().intValue() == 1,
+                score
+        );
+    }
+}
@@ -17,6 +17,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    public static final List<String> USER_ROLES = List.of("ROLE_USER");
+
     private final UserRepository userRepository;
 
     @Override
@@ -27,7 +29,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new org.springframework.security.core.userdetails.User(
                 u.getEmail(),
                 u.getPassword(),
-                List.of(new SimpleGrantedAuthority("ROLE_USER")) 
+                USER_ROLES.stream().map(SimpleGrantedAuthority::new).toList()
         );
     }
 }
@@ -2,6 +2,7 @@ package com.hahn.projectmanager.security;
 
 import java.io.IOException;
 
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,12 +10,17 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.hahn.projectmanager.controller.PushController;
+import com.hahn.projectmanager.logging.RequestLoggingFilter;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
@@ -22,6 +28,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
 
+    private static final String ACCESS_TOKEN_PARAM = "access_token";
+
+    // stateless, shared by all requests
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
@@ -29,6 +40,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 || path.startsWith("/api/public/");
     }
 
+    private static boolean isPushStream(HttpServletRequest request) {
+        return "GET".equals(request.getMethod())
+                && request.getRequestURI().equals(request.getContextPath() + PushController.STREAM_PATH);
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -36,49 +52,57 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        System.out.println("JWT FILTER HIT: " + request.getMethod() + " " + request.getRequestURI());
-
         String authHeader = request.getHeader("Authorization");
-        System.out.println("AUTH HEADER: " + authHeader);
-
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        String token;
+
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            // remove "Bearer " and trim
+            token = authHeader.substring(7).trim();
+        } else if (isPushStream(request) && request.getParameter(ACCESS_TOKEN_PARAM) != null) {
+            // EventSource cannot send headers (the query string is redacted in the access log)
+            token = request.getParameter(ACCESS_TOKEN_PARAM).trim();
+        } else {
             filterChain.doFilter(request, response);
             return;
         }
 
-        // remove "Bearer " and trim
-        String token = authHeader.substring(7).trim();
-
         // Safety: Postman sometimes includes quotes -> remove them
         if (token.startsWith("\"") && token.endsWith("\"") && token.length() > 2) {
             token = token.substring(1, token.length() - 1);
         }
 
-        System.out.println("TOKEN (first 25): " + token.substring(0, Math.min(25, token.length())));
-
         try {
-            String email = jwtUtil.extractEmail(token);
-            System.out.println("TOKEN EMAIL: " + email);
-
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
-
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            JwtUser jwtUser = jwtUtil.parseUser(token);
+
+            if (jwtUser.email() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+
+                UsernamePasswordAuthenticationToken authToken;
+                if (jwtUser.id() != null) {
+                    // token récent: id + roles dans les claims -> aucun accès DB
+                    authToken = new UsernamePasswordAuthenticationToken(jwtUser, null, jwtUser.authorities());
+                } else {
+                    // ancien token sans claim "uid"
+                    UserDetails userDetails = userDetailsService.loadUserByUsername(jwtUser.email());
+                    authToken = new UsernamePasswordAuthenticationToken(
+                            userDetails,
+                            null,
+                            userDetails.getAuthorities()
+                    );
+                }
+
+                authToken.setDetails(detailsSource.buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
 
-                System.out.println("AUTH SUCCESS: " + userDetails.getUsername() + " " + userDetails.getAuthorities());
+                if (jwtUser.id() != null) {
+                    request.setAttribute(RequestLoggingFilter.USER_ID_ATTRIBUTE, jwtUser.id());
+                    MDC.put(RequestLoggingFilter.MDC_USER_ID, String.valueOf(jwtUser.id()));
+                }
+
+                log.debug("JWT auth success: {} {}", authToken.getName(), authToken.getAuthorities());
             }
 
         } catch (Exception ex) {
-            System.out.println("JWT ERROR: " + ex.getClass().getSimpleName() + " - " + ex.getMessage());
+            log.debug("JWT error: {} - {}", ex.getClass().getSimpleName(), ex.getMessage());
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,25 @@
+package com.hahn.projectmanager.security;
+
+import java.util.List;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * Lightweight principal built from the JWT claims only (no users lookup).
+ * id may be null for tokens issued before the "uid" claim existed.
+ */
+public record JwtUser(Long id, String email, List<String> roles) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return roles.stream()
+                .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+}
@@ -1,7 +1,10 @@
 package com.hahn.projectmanager.security;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
@@ -9,36 +12,67 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLES = "roles";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
     @Value("${app.jwt.expiration-ms}")
     private long jwtExpirationMs;
 
+    private final VerifiedTokenCache tokenCache;
+    private final MeterRegistry meterRegistry;
+
     private SecretKey key;
 
+    // immutable and thread-safe, built once
+    private JwtParser parser;
+
+    // auth.jwt.verify{cache=hit|miss}: the miss path includes the HMAC check
+    private Timer verifyHit;
+    private Timer verifyMiss;
+
     @PostConstruct
 public void init() {
     if (jwtSecret == null || jwtSecret.trim().length() < 32) {
         throw new IllegalStateException("app.jwt.secret must be at least 32 characters");
     }
     this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+    this.verifyHit = verifyTimer("hit");
+    this.verifyMiss = verifyTimer("miss");
 }
 
+    private Timer verifyTimer(String cache) {
+        return Timer.builder("auth.jwt.verify")
+                .description("JWT parsing and verification")
+                .tag("cache", cache)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
 
-    public String generateToken(String email) {
+    public String generateToken(Long userId, String email, Collection<String> roles) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
                 .setSubject(email)      
+                .claim(CLAIM_USER_ID, userId)
+                .claim(CLAIM_ROLES, List.copyOf(roles))
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .signWith(key)
@@ -49,6 +83,36 @@ public void init() {
         return getClaims(token).getSubject(); 
     }
 
+    public JwtUser parseUser(String token) {
+        long start = System.nanoTime();
+        JwtUser cached = tokenCache.get(token);
+        if (cached != null) {
+            verifyHit.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+        try {
+            return verify(token);
+        } finally {
+            verifyMiss.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private JwtUser verify(String token) {
+        Claims claims = getClaims(token);
+
+        Number uid = claims.get(CLAIM_USER_ID, Number.class);
+        List<?> rawRoles = claims.get(CLAIM_ROLES, List.class);
+        List<String> roles = (rawRoles == null)
+                ? CustomUserDetailsService.USER_ROLES
+                : rawRoles.stream().map(String::valueOf).toList();
+
+        JwtUser user = new JwtUser(uid == null ? null : uid.longValue(), claims.getSubject(), roles);
+        if (claims.getExpiration() != null) {
+            tokenCache.put(token, user, claims.getExpiration().getTime());
+        }
+        return user;
+    }
+
     public boolean isTokenValid(String token) {
         try {
             getClaims(token);
@@ -59,10 +123,6 @@ public void init() {
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 }
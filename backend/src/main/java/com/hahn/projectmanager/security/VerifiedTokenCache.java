@@ -0,0 +1,99 @@
+package com.hahn.projectmanager.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of tokens whose signature has already been verified.
+ * Keyed by SHA-256 of the token (the raw token is never kept), each entry
+ * lives at most max-ttl and never beyond the token's own "exp".
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final Cache<ByteBuffer, Entry> cache;
+    private final long maxTtlNanos;
+
+    public VerifiedTokenCache(
+            @Value("${app.jwt.cache.max-size:10000}") long maxSize,
+            @Value("${app.jwt.cache.max-ttl-ms:300000}") long maxTtlMs
+    ) {
+        this.maxTtlNanos = TimeUnit.MILLISECONDS.toNanos(maxTtlMs);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ByteBuffer, Entry>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, Entry value, long currentTime) {
+                        long untilExp = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+                        return Math.max(0, Math.min(maxTtlNanos, untilExp));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, Entry value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, Entry value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    public JwtUser get(String token) {
+        Entry e = cache.getIfPresent(hash(token));
+        if (e == null) {
+            return null;
+        }
+        // double check: Caffeine expiry is not exact to the millisecond
+        return e.expiresAtMillis() > System.currentTimeMillis() ? e.user() : null;
+    }
+
+    public void put(String token, JwtUser user, long expiresAtMillis) {
+        if (expiresAtMillis > System.currentTimeMillis()) {
+            cache.put(hash(token), new Entry(user, expiresAtMillis));
+        }
+    }
+
+    // cache.gets{cache=jwt.verified,result=hit|miss}, cache.size, cache.evictions...
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "jwt.verified");
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    record Entry(JwtUser user, long expiresAtMillis) {}
+}
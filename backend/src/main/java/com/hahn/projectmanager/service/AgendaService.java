@@ -0,0 +1,10 @@
+package com.hahn.projectmanager.service;
+
+import java.time.LocalDate;
+
+import com.hahn.projectmanager.dto.AgendaResponse;
+
+public interface AgendaService {
+    // incomplete tasks of all the user's projects, due on or before today + days
+    AgendaResponse getAgenda(Long userId, LocalDate today, Integer days);
+}
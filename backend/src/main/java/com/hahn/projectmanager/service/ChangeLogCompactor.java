@@ -0,0 +1,63 @@
+package com.hahn.projectmanager.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hahn.projectmanager.config.ChangeLogProperties;
+import com.hahn.projectmanager.repository.ChangeLogRepository;
+import com.hahn.projectmanager.repository.ChangeSequenceRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the change log small: drops entries older than the retention (raising each owner's floor first,
+ * so older cursors get reset=true instead of missing changes) and entries superseded by a newer entry
+ * for the same project or task, which GET /api/changes would collapse anyway.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ChangeLogProperties.class)
+public class ChangeLogCompactor {
+
+    // clés lues puis supprimées par paquets: pas de DELETE avec sous-requête sur la même table (MySQL 1093)
+    private static final int SUPERSEDED_BATCH = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ChangeLogProperties properties;
+
+    // chaque étape dans sa propre transaction (méthodes des repositories): verrous courts
+    @Scheduled(
+            initialDelayString = "${app.changes.compact-initial-delay-ms:60000}",
+            fixedDelayString = "${app.changes.compact-interval-ms:3600000}"
+    )
+    public int compact() {
+        Instant cutoff = Instant.now().minus(properties.retention());
+        changeSequenceRepository.raiseFloors(cutoff);
+        int expired = changeLogRepository.deleteOlderThan(cutoff);
+
+        int superseded = 0;
+        List<ChangeLogRepository.EntryKey> keys;
+        while (!(keys = changeLogRepository.findSuperseded(PageRequest.of(0, SUPERSEDED_BATCH))).isEmpty()) {
+            Map<Long, List<Long>> byOwner = keys.stream().collect(Collectors.groupingBy(
+                    ChangeLogRepository.EntryKey::getOwnerId,
+                    Collectors.mapping(ChangeLogRepository.EntryKey::getSeq, Collectors.toList())));
+            for (Map.Entry<Long, List<Long>> e : byOwner.entrySet()) {
+                superseded += changeLogRepository.deleteByOwnerIdAndSeqIn(e.getKey(), e.getValue());
+            }
+        }
+        if (expired + superseded > 0) {
+            log.info("Change log compacted: {} expired, {} superseded entries removed", expired, superseded);
+        }
+        return expired + superseded;
+    }
+}
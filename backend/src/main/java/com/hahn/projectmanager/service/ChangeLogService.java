@@ -0,0 +1,24 @@
+package com.hahn.projectmanager.service;
+
+import java.util.Collection;
+
+import com.hahn.projectmanager.dto.ChangesResponse;
+
+/**
+ * Change log per owner for delta sync. The write methods join the caller's write transaction
+ * and must be its last step: they lock the owner's sequence row until commit.
+ */
+public interface ChangeLogService {
+
+    void projectUpserted(Long ownerId, Long projectId);
+
+    // tombstone du project seul: ses tasks partent avec lui côté client
+    void projectDeleted(Long ownerId, Long projectId);
+
+    void tasksUpserted(Long ownerId, Long projectId, Collection<Long> taskIds);
+
+    void tasksDeleted(Long ownerId, Long projectId, Collection<Long> taskIds);
+
+    // since absent, compacté ou inconnu -> reset=true
+    ChangesResponse getChanges(Long ownerId, String since, Integer limit);
+}
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 
 import com.hahn.projectmanager.entity.User;
 import com.hahn.projectmanager.repository.UserRepository;
+import com.hahn.projectmanager.security.JwtUser;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,12 @@ public class CurrentUserService {
     }
 
     public Long getIdOrThrow() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof JwtUser jwtUser && jwtUser.id() != null) {
+            // id porté par le token -> pas de requête
+            return jwtUser.id();
+        }
+
         String email = getEmailOrThrow();
         User u = userRepository.findByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
@@ -0,0 +1,67 @@
+package com.hahn.projectmanager.service;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.http.ETag;
+
+import com.hahn.projectmanager.repository.ProjectRepository;
+
+/**
+ * ETags built from entity versions (@Version, Project.tasksVersion), never from the
+ * serialized body: a conditional GET is answered with one version query, nothing else is loaded.
+ * Single entities get strong tags (If-Match on writes); lists get weak ones, shared by the JSON,
+ * Smile, CBOR and gzip representations (Tomcat never compresses a response with a strong ETag).
+ */
+public final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    public static String project(long projectId, long version, long tasksVersion) {
+        // les compteurs (totalTasks, completedTasks) font partie du project -> tasksVersion aussi
+        return "\"p" + projectId + "-" + version + "-" + tasksVersion + "\"";
+    }
+
+    public static String tasks(long projectId, long tasksVersion) {
+        return "W/\"p" + projectId + "-tasks-" + tasksVersion + "\"";
+    }
+
+    public static String task(long taskId, long version) {
+        return "\"t" + taskId + "-" + version + "\"";
+    }
+
+    // une liste: hash des (id, version, tasksVersion), change aussi quand un project est ajouté ou supprimé
+    public static String projects(List<ProjectRepository.Versions> versions) {
+        ByteBuffer buf = ByteBuffer.allocate(versions.size() * 3 * Long.BYTES);
+        for (ProjectRepository.Versions v : versions) {
+            buf.putLong(v.getProjectId()).putLong(v.getVersion()).putLong(v.getTasksVersion());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buf.array());
+            return "W/\"ps-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * If-None-Match uses the weak comparison, If-Match the strong one (RFC 9110 13.1).
+     * A null header never matches.
+     */
+    public static boolean matches(String header, String etag, boolean strong) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        for (ETag candidate : ETag.parse(header)) {
+            if (candidate.isWildcard() || candidate.compare(current, strong)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,7 +1,13 @@
 package com.hahn.projectmanager.service;
 
+import java.util.List;
+
 import com.hahn.projectmanager.dto.ProgressResponse;
+import com.hahn.projectmanager.dto.ProjectProgressResponse;
 
 public interface ProgressService {
     ProgressResponse getProgress(Long userId, Long projectId);
+
+    // projectIds null/empty => all projects of the user
+    List<ProjectProgressResponse> getProgressBatch(Long userId, List<Long> projectIds);
 }
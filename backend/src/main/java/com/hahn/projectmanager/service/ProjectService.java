@@ -5,7 +5,9 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.hahn.projectmanager.dto.CursorPage;
 import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.ProjectSummary;
 import com.hahn.projectmanager.dto.ProjectUpdateRequest;
 import com.hahn.projectmanager.entity.Project;
 
@@ -13,12 +15,19 @@ public interface ProjectService {
 
     Project createProject(Long userId, ProjectCreateRequest req);
 
-    List<Project> getMyProjects(Long userId);
+    List<ProjectSummary> getMyProjects(Long userId);
 
-    Page<Project> getMyProjectsPaged(Long userId, Pageable pageable);
+    Page<ProjectSummary> getMyProjectsPaged(Long userId, Pageable pageable);
+
+    CursorPage<ProjectSummary> getMyProjectsByCursor(Long userId, String cursor, Integer size, String sort, boolean withTotal);
 
     Project getMyProjectById(Long userId, Long projectId);
 
+    // ETags (cf. EntityTags): null when the project is not mine, the normal read then reports the error
+    String getMyProjectsTag(Long userId);
+
+    String getMyProjectTag(Long userId, Long projectId);
+
     Project updateMyProject(Long userId, Long projectId, ProjectUpdateRequest req);
 
     void deleteMyProject(Long userId, Long projectId);
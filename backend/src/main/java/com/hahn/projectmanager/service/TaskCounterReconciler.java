@@ -0,0 +1,44 @@
+package com.hahn.projectmanager.service;
+
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hahn.projectmanager.repository.ProjectRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detects and repairs drift between the denormalized Project.totalTasks / completedTasks
+ * counters and the real content of the tasks table (concurrent toggles, manual SQL, old rows...).
+ * Each repaired project goes to its owner's change log, like any other project update.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskCounterReconciler {
+
+    private final ProjectRepository projectRepository;
+    private final ChangeLogService changeLog;
+
+    @Scheduled(
+            initialDelayString = "${app.progress.reconcile-initial-delay-ms:10000}",
+            fixedDelayString = "${app.progress.reconcile-interval-ms:600000}"
+    )
+    @Transactional
+    public int reconcile() {
+        List<ProjectRepository.Owned> drifted = projectRepository.findWithTaskCounterDrift();
+        if (drifted.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = drifted.stream().map(ProjectRepository.Owned::getProjectId).toList();
+        log.warn("Task counters drifted for {} project(s), repairing: {}", ids.size(), ids);
+        int repaired = projectRepository.recomputeTaskCounters(ids);
+        // les clients en delta sync rechargent les compteurs corrigés
+        drifted.forEach(p -> changeLog.projectUpserted(p.getOwnerId(), p.getProjectId()));
+        return repaired;
+    }
+}
@@ -0,0 +1,7 @@
+package com.hahn.projectmanager.service;
+
+import com.hahn.projectmanager.dto.TaskSearchResponse;
+
+public interface TaskSearchService {
+    TaskSearchResponse search(Long userId, String q, Integer page, Integer size);
+}
@@ -5,7 +5,11 @@ import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.hahn.projectmanager.dto.BulkResult;
+import com.hahn.projectmanager.dto.CursorPage;
+import com.hahn.projectmanager.dto.TaskBulkUpdateItem;
 import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskSummary;
 import com.hahn.projectmanager.dto.TaskUpdateRequest;
 import com.hahn.projectmanager.entity.Task;
 
@@ -13,15 +17,32 @@ public interface TaskService {
 
     Task addTask(Long userId, Long projectId, TaskCreateRequest req);
 
-    List<Task> getTasks(Long userId, Long projectId);
+    List<TaskSummary> getTasks(Long userId, Long projectId);
 
-    Page<Task> getTasksPaged(Long userId, Long projectId, Pageable pageable);
+    Page<TaskSummary> getTasksPaged(Long userId, Long projectId, Pageable pageable);
+
+    CursorPage<TaskSummary> getTasksByCursor(Long userId, Long projectId, String cursor, Integer size, String sort, boolean withTotal);
 
     Task getTaskById(Long userId, Long projectId, Long taskId);
 
-    Task updateTask(Long userId, Long projectId, Long taskId, TaskUpdateRequest req);
+    // ETags (cf. EntityTags): null when not found / not mine, the normal read then reports the error
+    String getTasksTag(Long userId, Long projectId);
+
+    String getTaskTag(Long userId, Long projectId, Long taskId);
 
-    Task toggleComplete(Long userId, Long projectId, Long taskId);
+    // ifMatch (nullable): ETag of the task read by the client, 412 when it is stale
+    Task updateTask(Long userId, Long projectId, Long taskId, TaskUpdateRequest req, String ifMatch);
+
+    Task toggleComplete(Long userId, Long projectId, Long taskId, String ifMatch);
 
     void deleteTask(Long userId, Long projectId, Long taskId);
+
+    // bulk: ownership checked once, one transaction, all-or-nothing
+    List<TaskSummary> addTasks(Long userId, Long projectId, List<TaskCreateRequest> reqs);
+
+    BulkResult updateTasks(Long userId, Long projectId, List<TaskBulkUpdateItem> items);
+
+    BulkResult toggleTasks(Long userId, Long projectId, List<Long> taskIds);
+
+    BulkResult deleteTasks(Long userId, Long projectId, List<Long> taskIds);
 }
@@ -0,0 +1,23 @@
+package com.hahn.projectmanager.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.hahn.projectmanager.dto.ImportResult;
+
+public interface TaskTransferService {
+
+    // "ndjson" ou "csv"
+    String contentType(String format);
+
+    // ownership is checked before anything is written
+    void checkAccess(Long userId, Long projectId);
+
+    // streams rows straight from a DB cursor to the output, constant memory
+    void exportTasks(Long projectId, String format, OutputStream out) throws IOException;
+
+    // parses the input incrementally and inserts chunk by chunk (one transaction per chunk);
+    // a bad row stops the import with a TaskImportException (row number + rows already imported)
+    ImportResult importTasks(Long userId, Long projectId, String format, InputStream in) throws IOException;
+}
@@ -0,0 +1,60 @@
+package com.hahn.projectmanager.service.impl;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hahn.projectmanager.dto.AgendaItem;
+import com.hahn.projectmanager.dto.AgendaResponse;
+import com.hahn.projectmanager.exception.BadRequestException;
+import com.hahn.projectmanager.repository.TaskRepository;
+import com.hahn.projectmanager.service.AgendaService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class AgendaServiceImpl implements AgendaService {
+
+    private static final int DEFAULT_DAYS = 7;
+    private static final int MAX_DAYS = 90;
+    private static final int MAX_ITEMS_PER_BUCKET = 500;
+    // today hors de [MIN_YEAR, MAX_YEAR[ -> 400 (sinon DateTimeException sur plusDays -> 500);
+    // until = today + MAX_DAYS reste <= 9999, la limite des colonnes DATE
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 9999;
+
+    private final TaskRepository taskRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public AgendaResponse getAgenda(Long userId, LocalDate today, Integer days) {
+        LocalDate day = (today == null) ? LocalDate.now() : today;
+        int d = (days == null || days < 0) ? DEFAULT_DAYS : Math.min(days, MAX_DAYS);
+        if (day.getYear() < MIN_YEAR || day.getYear() >= MAX_YEAR) {
+            throw new BadRequestException("today must be between " + MIN_YEAR + "-01-01 and " + (MAX_YEAR - 1) + "-12-31");
+        }
+        LocalDate until = day.plusDays(d);
+
+        // une requête bornée par bucket: des centaines de tâches en retard n'affament pas today / upcoming
+        // (MAX_ITEMS_PER_BUCKET + 1 pour détecter la troncature)
+        Pageable limit = PageRequest.of(0, MAX_ITEMS_PER_BUCKET + 1);
+        List<AgendaItem> overdue = taskRepository.findAgendaOverdue(userId, day, limit);
+        List<AgendaItem> dueToday = taskRepository.findAgendaBetween(userId, day, day, limit);
+        List<AgendaItem> upcoming = (d == 0) ? List.of()
+                : taskRepository.findAgendaBetween(userId, day.plusDays(1), until, limit);
+
+        boolean truncated = overdue.size() > MAX_ITEMS_PER_BUCKET
+                || dueToday.size() > MAX_ITEMS_PER_BUCKET
+                || upcoming.size() > MAX_ITEMS_PER_BUCKET;
+        return new AgendaResponse(day, d, cap(overdue), cap(dueToday), cap(upcoming), truncated);
+    }
+
+    private static List<AgendaItem> cap(List<AgendaItem> rows) {
+        return rows.size() > MAX_ITEMS_PER_BUCKET ? rows.subList(0, MAX_ITEMS_PER_BUCKET) : rows;
+    }
+}
@@ -1,6 +1,5 @@
 package com.hahn.projectmanager.service.impl;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.hahn.projectmanager.dto.AuthResponse;
@@ -8,7 +7,9 @@ import com.hahn.projectmanager.dto.LoginRequest;
 import com.hahn.projectmanager.dto.RegisterRequest;
 import com.hahn.projectmanager.entity.User;
 import com.hahn.projectmanager.repository.UserRepository;
+import com.hahn.projectmanager.security.CustomUserDetailsService;
 import com.hahn.projectmanager.security.JwtUtil;
+import com.hahn.projectmanager.security.PasswordHashExecutor;
 import com.hahn.projectmanager.service.AuthService;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -19,7 +20,7 @@ import lombok.RequiredArgsConstructor;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashExecutor passwordHasher; // BCrypt hors des threads HTTP
     private final JwtUtil jwtUtil;
 
     @Override
@@ -31,12 +32,12 @@ public class AuthServiceImpl implements AuthService {
         User user = User.builder()
                 .email(request.email())
                 .fullName(request.fullName())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHasher.encode(request.password()))
                 .build();
 
         user = userRepository.save(user);
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail(), CustomUserDetailsService.USER_ROLES);
         return new AuthResponse(token, user.getId(), user.getEmail(), user.getFullName());
     }
 
@@ -45,11 +46,11 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHasher.matches(request.password(), user.getPassword())) {
             throw new IllegalArgumentException("Invalid credentials");
         }
 
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user.getId(), user.getEmail(), CustomUserDetailsService.USER_ROLES);
         return new AuthResponse(token, user.getId(), user.getEmail(), user.getFullName());
     }
 }
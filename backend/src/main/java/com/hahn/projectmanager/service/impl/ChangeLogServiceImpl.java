@@ -0,0 +1,183 @@
+package com.hahn.projectmanager.service.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hahn.projectmanager.config.ChangeLogProperties;
+import com.hahn.projectmanager.dto.ChangesResponse;
+import com.hahn.projectmanager.dto.ProjectSummary;
+import com.hahn.projectmanager.dto.TaskSummary;
+import com.hahn.projectmanager.entity.ChangeLogEntry;
+import com.hahn.projectmanager.entity.ChangeLogEntry.EntityType;
+import com.hahn.projectmanager.entity.ChangeSequence;
+import com.hahn.projectmanager.entity.User;
+import com.hahn.projectmanager.repository.ChangeLogRepository;
+import com.hahn.projectmanager.repository.ChangeSequenceRepository;
+import com.hahn.projectmanager.repository.ProjectRepository;
+import com.hahn.projectmanager.repository.TaskRepository;
+import com.hahn.projectmanager.service.ChangeLogService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(ChangeLogProperties.class)
+public class ChangeLogServiceImpl implements ChangeLogService {
+
+    private final EntityManager entityManager;
+    private final ChangeLogRepository changeLogRepository;
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ChangeLogProperties properties;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void projectUpserted(Long ownerId, Long projectId) {
+        append(ownerId, EntityType.PROJECT, projectId, List.of(projectId), false);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void projectDeleted(Long ownerId, Long projectId) {
+        append(ownerId, EntityType.PROJECT, projectId, List.of(projectId), true);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void tasksUpserted(Long ownerId, Long projectId, Collection<Long> taskIds) {
+        append(ownerId, EntityType.TASK, projectId, taskIds, false);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void tasksDeleted(Long ownerId, Long projectId, Collection<Long> taskIds) {
+        append(ownerId, EntityType.TASK, projectId, taskIds, true);
+    }
+
+    private void append(Long ownerId, EntityType type, Long projectId, Collection<Long> ids, boolean deleted) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        // les écritures de la transaction d'abord: le verrou sur la séquence est toujours pris en dernier
+        entityManager.flush();
+        ChangeSequence sequence = lockSequence(ownerId);
+
+        long seq = sequence.getLastSeq();
+        Instant now = Instant.now();
+        for (Long id : ids) {
+            // id assigné -> persist sans SELECT, INSERT batchés au commit
+            entityManager.persist(ChangeLogEntry.builder()
+                    .ownerId(ownerId)
+                    .seq(++seq)
+                    .entityType(type)
+                    .entityId(id)
+                    .projectId(projectId)
+                    .deleted(deleted)
+                    .changedAt(now)
+                    .build());
+        }
+        sequence.setLastSeq(seq);
+    }
+
+    // SELECT ... FOR UPDATE jusqu'au commit: les seq d'un owner suivent l'ordre des commits
+    private ChangeSequence lockSequence(Long ownerId) {
+        ChangeSequence sequence = entityManager.find(ChangeSequence.class, ownerId, LockModeType.PESSIMISTIC_WRITE);
+        if (sequence != null) {
+            return sequence;
+        }
+        // première écriture de l'owner: le verrou sur le User sérialise la création de la ligne
+        entityManager.find(User.class, ownerId, LockModeType.PESSIMISTIC_WRITE);
+        sequence = entityManager.find(ChangeSequence.class, ownerId, LockModeType.PESSIMISTIC_WRITE);
+        if (sequence == null) {
+            sequence = new ChangeSequence(ownerId, 0, 0);
+            entityManager.persist(sequence);
+        }
+        return sequence;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ChangesResponse getChanges(Long ownerId, String since, Integer limit) {
+        ChangeSequence sequence = changeSequenceRepository.findById(ownerId).orElse(new ChangeSequence(ownerId, 0, 0));
+        long last = sequence.getLastSeq();
+        Long after = parseCursor(since);
+        if (after == null || after < sequence.getFloorSeq() || after > last) {
+            return new ChangesResponse(String.valueOf(last), true, false, List.of(), List.of(), List.of(), List.of());
+        }
+        if (after == last) {
+            return new ChangesResponse(since, false, false, List.of(), List.of(), List.of(), List.of());
+        }
+
+        int size = limit == null || limit < 1 ? properties.defaultLimit() : Math.min(limit, properties.maxLimit());
+        List<ChangeLogEntry> entries = changeLogRepository.findPage(ownerId, after, last, PageRequest.of(0, size + 1));
+        boolean hasMore = entries.size() > size;
+        if (hasMore) {
+            entries = entries.subList(0, size);
+        }
+
+        // une entité modifiée plusieurs fois -> sa dernière entrée seulement
+        Map<Long, Boolean> projectChanges = new LinkedHashMap<>();
+        Map<Long, Boolean> taskChanges = new LinkedHashMap<>();
+        Set<Long> projectIds = new LinkedHashSet<>();
+        for (ChangeLogEntry e : entries) {
+            (e.getEntityType() == EntityType.PROJECT ? projectChanges : taskChanges).put(e.getEntityId(), e.isDeleted());
+            // compteurs du project changés par ses tasks
+            projectIds.add(e.getProjectId());
+        }
+        List<Long> deletedProjectIds = tombstones(projectChanges);
+        List<Long> deletedTaskIds = tombstones(taskChanges);
+        projectIds.removeAll(deletedProjectIds);
+        Set<Long> taskIds = new LinkedHashSet<>(taskChanges.keySet());
+        deletedTaskIds.forEach(taskIds::remove);
+
+        List<ProjectSummary> projects = projectIds.isEmpty()
+                ? List.of() : projectRepository.findSummariesByOwnerIdAndIdIn(ownerId, projectIds);
+        List<TaskSummary> tasks = taskIds.isEmpty()
+                ? List.of() : taskRepository.findSummariesByOwnerIdAndIdIn(ownerId, taskIds);
+
+        // ids jamais réutilisés: absent maintenant = supprimé depuis (ou task partie avec son project)
+        projects.forEach(p -> projectIds.remove(p.id()));
+        deletedProjectIds.addAll(projectIds);
+        tasks.forEach(t -> taskIds.remove(t.id()));
+        deletedTaskIds.addAll(taskIds);
+
+        long cursor = hasMore ? entries.get(entries.size() - 1).getSeq() : last;
+        return new ChangesResponse(String.valueOf(cursor), false, hasMore, projects, tasks, deletedProjectIds, deletedTaskIds);
+    }
+
+    private static List<Long> tombstones(Map<Long, Boolean> changes) {
+        List<Long> ids = new ArrayList<>();
+        changes.forEach((id, deleted) -> {
+            if (deleted) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    private static Long parseCursor(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(since.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
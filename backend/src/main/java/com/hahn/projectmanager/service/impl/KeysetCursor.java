@@ -0,0 +1,71 @@
+package com.hahn.projectmanager.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+import com.hahn.projectmanager.exception.BadRequestException;
+
+/**
+ * Opaque cursor for keyset pagination: position = (sort key value, id) of the last row returned.
+ * Encoded as base64url("sort:id:value"), the value goes last so it may contain ':'.
+ */
+record KeysetCursor(String sort, long id, String value) {
+
+    static final String SORT_ID = "id";
+    static final String SORT_TITLE = "title";
+
+    private static final Set<String> SORTS = Set.of(SORT_ID, SORT_TITLE);
+
+    static final int DEFAULT_SIZE = 20;
+    static final int MAX_SIZE = 100;
+
+    // position before the first row: ids are > 0 and titles are never blank
+    static KeysetCursor start(String sort) {
+        return new KeysetCursor(checkSort(sort), 0L, "");
+    }
+
+    static KeysetCursor decode(String cursor, String sort) {
+        String s = checkSort(sort);
+        if (cursor == null || cursor.isBlank()) {
+            return start(s);
+        }
+        String[] parts;
+        long id;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split(":", 3);
+            id = parts.length == 3 ? Long.parseLong(parts[1]) : -1L;
+        } catch (IllegalArgumentException ex) {
+            // base64 invalide ou id non numérique (NumberFormatException)
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (parts.length != 3 || id < 0) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!parts[0].equals(s)) {
+            throw new BadRequestException("Cursor does not match sort '" + s + "'");
+        }
+        return new KeysetCursor(s, id, parts[2]);
+    }
+
+    static int clampSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    String encode() {
+        String raw = sort + ":" + id + ":" + (value == null ? "" : value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String checkSort(String sort) {
+        String s = (sort == null || sort.isBlank()) ? SORT_ID : sort;
+        if (!SORTS.contains(s)) {
+            throw new BadRequestException("Unsupported sort '" + s + "', expected one of " + SORTS);
+        }
+        return s;
+    }
+}
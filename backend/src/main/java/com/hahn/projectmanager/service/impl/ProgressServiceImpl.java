@@ -1,9 +1,14 @@
 package com.hahn.projectmanager.service.impl;
 
+import java.util.List;
+
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.hahn.projectmanager.dto.ProgressResponse;
-import com.hahn.projectmanager.repository.TaskRepository;
+import com.hahn.projectmanager.dto.ProjectProgressResponse;
+import com.hahn.projectmanager.entity.Project;
+import com.hahn.projectmanager.repository.ProjectRepository;
 import com.hahn.projectmanager.service.ProgressService;
 import com.hahn.projectmanager.service.ProjectService;
 
@@ -13,18 +18,40 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProgressServiceImpl implements ProgressService {
 
-    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
     private final ProjectService projectService;
 
     @Override
+    @Transactional(readOnly = true)
     public ProgressResponse getProgress(Long userId, Long projectId) {
-        // vérifie que le project appartient à l'user
-        projectService.getMyProjectById(userId, projectId);
+        // vérifie que le project appartient à l'user, les compteurs sont sur la ligne du project
+        Project project = projectService.getMyProjectById(userId, projectId);
 
-        long total = taskRepository.countByProjectId(projectId);
-        long done = taskRepository.countByProjectIdAndCompletedTrue(projectId);
+        long total = project.getTotalTasks();
+        long done = project.getCompletedTasks();
         double pct = (total == 0) ? 0.0 : (done * 100.0 / total);
 
         return new ProgressResponse(projectId, total, done, pct);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectProgressResponse> getProgressBatch(Long userId, List<Long> projectIds) {
+        // une seule requête sur projects, filtrée par owner (les ids des autres users sont ignorés)
+        List<ProjectRepository.TaskCounts> counts = (projectIds == null || projectIds.isEmpty())
+                ? projectRepository.findTaskCountsByOwnerId(userId)
+                : projectRepository.findTaskCountsByOwnerIdAndProjectIds(userId, projectIds);
+
+        return counts.stream()
+                .map(c -> new ProjectProgressResponse(
+                        c.getProjectId(),
+                        c.getTotalTasks(),
+                        c.getCompletedTasks(),
+                        percentage(c.getTotalTasks(), c.getCompletedTasks())))
+                .toList();
+    }
+
+    private static int percentage(long total, long done) {
+        return (total == 0) ? 0 : (int) Math.round(done * 100.0 / total);
+    }
 }
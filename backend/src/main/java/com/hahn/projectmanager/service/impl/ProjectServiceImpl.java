@@ -3,16 +3,24 @@ package com.hahn.projectmanager.service.impl;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hahn.projectmanager.dto.CursorPage;
 import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.ProjectSummary;
 import com.hahn.projectmanager.dto.ProjectUpdateRequest;
 import com.hahn.projectmanager.entity.Project;
 import com.hahn.projectmanager.entity.User;
 import com.hahn.projectmanager.exception.AccessDeniedException;
 import com.hahn.projectmanager.repository.ProjectRepository;
 import com.hahn.projectmanager.repository.UserRepository;
+import com.hahn.projectmanager.search.TaskIndexSync;
+import com.hahn.projectmanager.service.ChangeLogService;
+import com.hahn.projectmanager.service.EntityTags;
 import com.hahn.projectmanager.service.ProjectService;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -24,8 +32,11 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final TaskIndexSync taskIndexSync;
+    private final ChangeLogService changeLog;
 
     @Override
+    @Transactional
     public Project createProject(Long userId, ProjectCreateRequest req) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
@@ -36,24 +47,49 @@ public class ProjectServiceImpl implements ProjectService {
                 .owner(user)
                 .build();
 
-        return projectRepository.save(p);
+        p = projectRepository.save(p);
+        changeLog.projectUpserted(userId, p.getId());
+        return p;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> getMyProjects(Long userId) {
+        return projectRepository.findSummariesByOwnerId(userId);
     }
 
     @Override
-    public List<Project> getMyProjects(Long userId) {
-        return projectRepository.findByOwnerId(userId);
+    @Transactional(readOnly = true)
+    public Page<ProjectSummary> getMyProjectsPaged(Long userId, Pageable pageable) {
+        return projectRepository.findSummariesByOwnerId(userId, pageable);
     }
 
     @Override
-    public Page<Project> getMyProjectsPaged(Long userId, Pageable pageable) {
-        return projectRepository.findByOwnerId(userId, pageable);
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectSummary> getMyProjectsByCursor(Long userId, String cursor, Integer size, String sort, boolean withTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor, sort);
+        Pageable limit = PageRequest.of(0, KeysetCursor.clampSize(size));
+
+        Slice<ProjectSummary> slice = KeysetCursor.SORT_TITLE.equals(after.sort())
+                ? projectRepository.findSliceByOwnerIdAfterTitle(userId, after.value(), after.id(), limit)
+                : projectRepository.findSliceByOwnerIdAfterId(userId, after.id(), limit);
+
+        String next = null;
+        if (slice.hasNext()) {
+            ProjectSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            next = new KeysetCursor(after.sort(), last.id(), last.title()).encode();
+        }
+
+        Long total = withTotal ? projectRepository.countByOwnerId(userId) : null;
+        return new CursorPage<>(slice.getContent(), next, slice.hasNext(), total);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Project getMyProjectById(Long userId, Long projectId) {
+        // par id -> cache de 2e niveau, l'owner est vérifié sur la FK en cache
         Project p = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found"));
-
         if (!p.getOwner().getId().equals(userId)) {
             throw new AccessDeniedException("Access denied");
         }
@@ -61,16 +97,37 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public String getMyProjectsTag(Long userId) {
+        return EntityTags.projects(projectRepository.findVersionsByOwnerId(userId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getMyProjectTag(Long userId, Long projectId) {
+        return projectRepository.findById(projectId)
+                .filter(p -> p.getOwner().getId().equals(userId))
+                .map(p -> EntityTags.project(p.getId(), p.getVersion(), p.getTasksVersion()))
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional
     public Project updateMyProject(Long userId, Long projectId, ProjectUpdateRequest req) {
         Project p = getMyProjectById(userId, projectId);
         p.setTitle(req.title());
         p.setDescription(req.description());
-        return projectRepository.save(p);
+        p = projectRepository.save(p);
+        changeLog.projectUpserted(userId, projectId);
+        return p;
     }
 
     @Override
+    @Transactional
     public void deleteMyProject(Long userId, Long projectId) {
         Project p = getMyProjectById(userId, projectId);
         projectRepository.delete(p);
+        taskIndexSync.deleteProject(projectId);
+        changeLog.projectDeleted(userId, projectId);
     }
 }
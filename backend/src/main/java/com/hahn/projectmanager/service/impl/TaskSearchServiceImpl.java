@@ -0,0 +1,31 @@
+package com.hahn.projectmanager.service.impl;
+
+import org.springframework.stereotype.Service;
+
+import com.hahn.projectmanager.dto.TaskSearchResponse;
+import com.hahn.projectmanager.exception.BadRequestException;
+import com.hahn.projectmanager.search.TaskSearchIndex;
+import com.hahn.projectmanager.service.TaskSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 100;
+
+    private final TaskSearchIndex taskSearchIndex;
+
+    @Override
+    public TaskSearchResponse search(Long userId, String q, Integer page, Integer size) {
+        int p = (page == null || page < 0) ? 0 : page;
+        int s = (size == null || size <= 0) ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+        if ((long) p * s >= TaskSearchIndex.MAX_RESULT_WINDOW) {
+            throw new BadRequestException("page * size must be below " + TaskSearchIndex.MAX_RESULT_WINDOW);
+        }
+        // l'index filtre par ownerId: seuls les projects de l'user sont visibles
+        return taskSearchIndex.search(userId, q, p, s);
+    }
+}
@@ -1,20 +1,39 @@
 package com.hahn.projectmanager.service.impl;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hahn.projectmanager.dto.BulkResult;
+import com.hahn.projectmanager.dto.CursorPage;
+import com.hahn.projectmanager.dto.TaskBulkUpdateItem;
 import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskSummary;
 import com.hahn.projectmanager.dto.TaskUpdateRequest;
 import com.hahn.projectmanager.entity.Project;
 import com.hahn.projectmanager.entity.Task;
 import com.hahn.projectmanager.exception.AccessDeniedException;
+import com.hahn.projectmanager.exception.PreconditionFailedException;
+import com.hahn.projectmanager.push.TaskEventPublisher;
 import com.hahn.projectmanager.repository.ProjectRepository;
 import com.hahn.projectmanager.repository.TaskRepository;
+import com.hahn.projectmanager.search.TaskIndexSync;
+import com.hahn.projectmanager.service.ChangeLogService;
+import com.hahn.projectmanager.service.EntityTags;
 import com.hahn.projectmanager.service.TaskService;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
@@ -24,11 +43,19 @@ public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final TaskIndexSync taskIndexSync;
+    private final ChangeLogService changeLog;
+    private final TaskEventPublisher taskEvents;
 
+    // aligné sur hibernate.jdbc.batch_size: flush + clear pour garder le contexte petit
+    private static final int BULK_CHUNK = 500;
+
+    // Project lu par id: cache de 2e niveau, pas de SQL quand il y est (sinon 1 SELECT)
     private Project checkProject(Long userId, Long projectId) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found"));
-
+        // id du proxy owner: pas de chargement du User
         if (!project.getOwner().getId().equals(userId)) {
             throw new AccessDeniedException("Access denied");
         }
@@ -36,8 +63,11 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional
     public Task addTask(Long userId, Long projectId, TaskCreateRequest req) {
-        Project project = checkProject(userId, projectId);
+        checkProject(userId, projectId);
+        // référence sans SELECT, seule la FK est utilisée pour l'insert
+        Project project = projectRepository.getReferenceById(projectId);
 
         Task task = Task.builder()
                 .title(req.title())
@@ -47,54 +77,238 @@ public class TaskServiceImpl implements TaskService {
                 .project(project)
                 .build();
 
-        return taskRepository.save(task);
+        task = taskRepository.save(task);
+        projectRepository.adjustTaskCounters(projectId, 1, 0);
+        taskIndexSync.reindex(List.of(task.getId()));
+        changeLog.tasksUpserted(userId, projectId, List.of(task.getId()));
+        taskEvents.tasksChanged(userId, projectId, List.of(task.getId()), false, true);
+        return task;
     }
 
     @Override
-    public List<Task> getTasks(Long userId, Long projectId) {
+    @Transactional(readOnly = true)
+    public List<TaskSummary> getTasks(Long userId, Long projectId) {
         checkProject(userId, projectId);
-        return taskRepository.findByProjectId(projectId);
+        return taskRepository.findSummariesByProjectId(projectId);
     }
 
     @Override
-    public Page<Task> getTasksPaged(Long userId, Long projectId, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<TaskSummary> getTasksPaged(Long userId, Long projectId, Pageable pageable) {
         checkProject(userId, projectId);
-        return taskRepository.findByProjectId(projectId, pageable);
+        return taskRepository.findSummariesByProjectId(projectId, pageable);
     }
 
     @Override
-    public Task getTaskById(Long userId, Long projectId, Long taskId) {
+    @Transactional(readOnly = true)
+    public CursorPage<TaskSummary> getTasksByCursor(Long userId, Long projectId, String cursor, Integer size, String sort, boolean withTotal) {
+        KeysetCursor after = KeysetCursor.decode(cursor, sort);
         checkProject(userId, projectId);
+        Pageable limit = PageRequest.of(0, KeysetCursor.clampSize(size));
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        Slice<TaskSummary> slice = KeysetCursor.SORT_TITLE.equals(after.sort())
+                ? taskRepository.findSliceByProjectIdAfterTitle(projectId, after.value(), after.id(), limit)
+                : taskRepository.findSliceByProjectIdAfterId(projectId, after.id(), limit);
 
-        // sécurité: vérifier que la task appartient bien au project demandé
-        if (!task.getProject().getId().equals(projectId)) {
-            throw new AccessDeniedException("Access denied");
+        String next = null;
+        if (slice.hasNext()) {
+            TaskSummary last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            next = new KeysetCursor(after.sort(), last.id(), last.title()).encode();
         }
 
-        return task;
+        // total lu sur le compteur du project, pas de COUNT(*)
+        Long total = withTotal ? projectRepository.findTotalTasksById(projectId) : null;
+        return new CursorPage<>(slice.getContent(), next, slice.hasNext(), total);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Task getTaskById(Long userId, Long projectId, Long taskId) {
+        // task + project + owner vérifiés dans un seul SELECT
+        return taskRepository.findOwnedTask(taskId, projectId, userId)
+                .orElseThrow(() -> taskError(userId, projectId, taskId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getTasksTag(Long userId, Long projectId) {
+        return projectRepository.findById(projectId)
+                .filter(p -> p.getOwner().getId().equals(userId))
+                .map(p -> EntityTags.tasks(projectId, p.getTasksVersion()))
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getTaskTag(Long userId, Long projectId, Long taskId) {
+        return taskRepository.findOwnedTaskVersion(taskId, projectId, userId)
+                .map(version -> EntityTags.task(taskId, version))
+                .orElse(null);
+    }
+
+    // le @Version protège en plus contre une écriture concurrente entre ce SELECT et le commit (409)
+    private void checkIfMatch(Task task, String ifMatch) {
+        if (ifMatch != null && !EntityTags.matches(ifMatch, EntityTags.task(task.getId(), task.getVersion()), true)) {
+            throw new PreconditionFailedException("Task was modified, reload and retry");
+        }
+    }
+
+    private RuntimeException taskError(Long userId, Long projectId, Long taskId) {
+        checkProject(userId, projectId);
+        // sécurité: la task existe mais appartient à un autre project
+        return taskRepository.existsById(taskId)
+                ? new AccessDeniedException("Access denied")
+                : new EntityNotFoundException("Task not found");
     }
 
     @Override
-    public Task updateTask(Long userId, Long projectId, Long taskId, TaskUpdateRequest req) {
+    @Transactional
+    public Task updateTask(Long userId, Long projectId, Long taskId, TaskUpdateRequest req, String ifMatch) {
         Task task = getTaskById(userId, projectId, taskId);
+        checkIfMatch(task, ifMatch);
         task.setTitle(req.title());
         task.setDescription(req.description());
         task.setDueDate(req.dueDate());
-        return taskRepository.save(task);
+        task = taskRepository.save(task);
+        projectRepository.touchTasks(projectId);
+        taskIndexSync.reindex(List.of(task.getId()));
+        changeLog.tasksUpserted(userId, projectId, List.of(taskId));
+        taskEvents.tasksChanged(userId, projectId, List.of(taskId), false, false);
+        return task;
     }
 
     @Override
-    public Task toggleComplete(Long userId, Long projectId, Long taskId) {
+    @Transactional
+    public Task toggleComplete(Long userId, Long projectId, Long taskId, String ifMatch) {
         Task task = getTaskById(userId, projectId, taskId);
+        checkIfMatch(task, ifMatch);
         task.setCompleted(!task.isCompleted());
-        return taskRepository.save(task);
+        task = taskRepository.save(task);
+        projectRepository.adjustTaskCounters(projectId, 0, task.isCompleted() ? 1 : -1);
+        taskIndexSync.reindex(List.of(task.getId()));
+        changeLog.tasksUpserted(userId, projectId, List.of(taskId));
+        taskEvents.tasksChanged(userId, projectId, List.of(taskId), false, true);
+        return task;
     }
 
     @Override
+    @Transactional
     public void deleteTask(Long userId, Long projectId, Long taskId) {
-        taskRepository.delete(getTaskById(userId, projectId, taskId));
+        Task task = getTaskById(userId, projectId, taskId);
+        taskRepository.delete(task);
+        projectRepository.adjustTaskCounters(projectId, -1, task.isCompleted() ? -1 : 0);
+        taskIndexSync.delete(List.of(taskId));
+        changeLog.tasksDeleted(userId, projectId, List.of(taskId));
+        taskEvents.tasksChanged(userId, projectId, List.of(taskId), true, true);
+    }
+
+    @Override
+    @Transactional
+    public List<TaskSummary> addTasks(Long userId, Long projectId, List<TaskCreateRequest> reqs) {
+        checkProject(userId, projectId);
+        Project project = projectRepository.getReferenceById(projectId);
+
+        List<TaskSummary> created = new ArrayList<>(reqs.size());
+        List<Task> chunk = new ArrayList<>(BULK_CHUNK);
+        for (TaskCreateRequest req : reqs) {
+            chunk.add(Task.builder()
+                    .title(req.title())
+                    .description(req.description())
+                    .dueDate(req.dueDate())
+                    .completed(false)
+                    .project(project)
+                    .build());
+            if (chunk.size() == BULK_CHUNK) {
+                flushChunk(chunk, created, projectId);
+                project = projectRepository.getReferenceById(projectId);
+            }
+        }
+        flushChunk(chunk, created, projectId);
+
+        projectRepository.adjustTaskCounters(projectId, reqs.size(), 0);
+        List<Long> ids = created.stream().map(TaskSummary::id).toList();
+        taskIndexSync.reindex(ids);
+        changeLog.tasksUpserted(userId, projectId, ids);
+        taskEvents.tasksChanged(userId, projectId, ids, false, true);
+        return created;
+    }
+
+    private void flushChunk(List<Task> chunk, List<TaskSummary> created, Long projectId) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        taskRepository.saveAll(chunk);
+        entityManager.flush();
+        for (Task t : chunk) {
+            created.add(new TaskSummary(t.getId(), t.getTitle(), t.getDescription(), t.getDueDate(), t.isCompleted(), projectId));
+        }
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    @Override
+    @Transactional
+    public BulkResult updateTasks(Long userId, Long projectId, List<TaskBulkUpdateItem> items) {
+        checkProject(userId, projectId);
+
+        Map<Long, TaskBulkUpdateItem> byId = items.stream()
+                .collect(Collectors.toMap(TaskBulkUpdateItem::id, Function.identity(), (a, b) -> b));
+        List<Task> tasks = taskRepository.findByProjectIdAndIdIn(projectId, byId.keySet());
+        if (tasks.size() != byId.size()) {
+            throw new EntityNotFoundException("Task not found");
+        }
+
+        for (Task task : tasks) {
+            TaskBulkUpdateItem item = byId.get(task.getId());
+            task.setTitle(item.title());
+            task.setDescription(item.description());
+            task.setDueDate(item.dueDate());
+        }
+        projectRepository.touchTasks(projectId);
+        taskIndexSync.reindex(byId.keySet());
+        // dirty checking -> UPDATE batchés au flush du change log
+        changeLog.tasksUpserted(userId, projectId, byId.keySet());
+        taskEvents.tasksChanged(userId, projectId, byId.keySet(), false, false);
+        return new BulkResult(tasks.size());
+    }
+
+    @Override
+    @Transactional
+    public BulkResult toggleTasks(Long userId, Long projectId, List<Long> taskIds) {
+        checkProject(userId, projectId);
+        Set<Long> ids = new LinkedHashSet<>(taskIds);
+
+        TaskRepository.BulkCounts before = taskRepository.countByProjectIdAndIdIn(projectId, ids);
+        if (before.getTotalTasks() != ids.size()) {
+            throw new EntityNotFoundException("Task not found");
+        }
+
+        int updated = taskRepository.toggleByProjectIdAndIdIn(projectId, ids);
+        // les completed deviennent pending et inversement
+        long completedDelta = (before.getTotalTasks() - before.getCompletedTasks()) - before.getCompletedTasks();
+        projectRepository.adjustTaskCounters(projectId, 0, completedDelta);
+        taskIndexSync.reindex(ids);
+        changeLog.tasksUpserted(userId, projectId, ids);
+        taskEvents.tasksChanged(userId, projectId, ids, false, true);
+        return new BulkResult(updated);
+    }
+
+    @Override
+    @Transactional
+    public BulkResult deleteTasks(Long userId, Long projectId, List<Long> taskIds) {
+        checkProject(userId, projectId);
+        Set<Long> ids = new LinkedHashSet<>(taskIds);
+
+        TaskRepository.BulkCounts before = taskRepository.countByProjectIdAndIdIn(projectId, ids);
+        if (before.getTotalTasks() != ids.size()) {
+            throw new EntityNotFoundException("Task not found");
+        }
+
+        int deleted = taskRepository.deleteByProjectIdAndIdIn(projectId, ids);
+        projectRepository.adjustTaskCounters(projectId, -before.getTotalTasks(), -before.getCompletedTasks());
+        taskIndexSync.delete(ids);
+        changeLog.tasksDeleted(userId, projectId, ids);
+        taskEvents.tasksChanged(userId, projectId, ids, true, true);
+        return new BulkResult(deleted);
     }
 }
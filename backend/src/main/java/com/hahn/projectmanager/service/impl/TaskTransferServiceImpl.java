@@ -0,0 +1,356 @@
+package com.hahn.projectmanager.service.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.hahn.projectmanager.dto.ImportResult;
+import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskSummary;
+import com.hahn.projectmanager.entity.Project;
+import com.hahn.projectmanager.exception.AccessDeniedException;
+import com.hahn.projectmanager.exception.BadRequestException;
+import com.hahn.projectmanager.exception.TaskImportException;
+import com.hahn.projectmanager.repository.ProjectRepository;
+import com.hahn.projectmanager.repository.TaskRepository;
+import com.hahn.projectmanager.service.TaskService;
+import com.hahn.projectmanager.service.TaskTransferService;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class TaskTransferServiceImpl implements TaskTransferService {
+
+    static final String NDJSON = "ndjson";
+    static final String CSV = "csv";
+
+    private static final String CSV_HEADER = "id,title,description,dueDate,completed";
+    private static final int FLUSH_EVERY = 500;
+    private static final int IMPORT_CHUNK = 500;
+    private static final int TITLE_MAX_LENGTH = 200;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String contentType(String format) {
+        return switch (checkFormat(format)) {
+            case CSV -> "text/csv";
+            default -> "application/x-ndjson";
+        };
+    }
+
+    @Override
+    public void checkAccess(Long userId, Long projectId) {
+        // Project par id: cache de 2e niveau
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found"));
+        if (!project.getOwner().getId().equals(userId)) {
+            throw new AccessDeniedException("Access denied");
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(Long projectId, String format, OutputStream out) throws IOException {
+        String f = checkFormat(format);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        try (Stream<TaskSummary> rows = taskRepository.streamSummariesByProjectId(projectId)) {
+            if (CSV.equals(f)) {
+                writeCsv(rows.iterator(), writer);
+            } else {
+                writeNdjson(rows.iterator(), writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(Iterator<TaskSummary> rows, Writer writer) throws IOException {
+        // le SequenceWriter ne ferme pas la réponse, on garde la main sur le flush
+        SequenceWriter seq = objectMapper.writer()
+                .without(com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(writer);
+        long n = 0;
+        while (rows.hasNext()) {
+            seq.write(rows.next());
+            if (++n % FLUSH_EVERY == 0) {
+                seq.flush();
+            }
+        }
+        seq.close();
+        if (n > 0) {
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsv(Iterator<TaskSummary> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long n = 0;
+        while (rows.hasNext()) {
+            TaskSummary t = rows.next();
+            writer.write(String.valueOf(t.id()));
+            writer.write(',');
+            writer.write(csvEscape(t.title()));
+            writer.write(',');
+            writer.write(csvEscape(t.description()));
+            writer.write(',');
+            writer.write(t.dueDate() == null ? "" : t.dueDate().toString());
+            writer.write(',');
+            writer.write(String.valueOf(t.completed()));
+            writer.write('\n');
+            if (++n % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+    }
+
+    @Override
+    public ImportResult importTasks(Long userId, Long projectId, String format, InputStream in) throws IOException {
+        String f = checkFormat(format);
+        checkAccess(userId, projectId);
+
+        Iterator<TaskCreateRequest> rows;
+        try {
+            rows = CSV.equals(f)
+                    ? new CsvTaskIterator(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)))
+                    : ndjsonRows(in);
+        } catch (IllegalArgumentException ex) {
+            // en-tête CSV ou premier token JSON: rien n'est écrit
+            throw new BadRequestException(ex.getMessage());
+        }
+
+        long imported = 0;
+        long row = 0;
+        int chunks = 0;
+        List<TaskCreateRequest> chunk = new ArrayList<>(IMPORT_CHUNK);
+        TaskCreateRequest req;
+        while ((req = nextRow(rows, ++row, imported)) != null) {
+            if (req.title() == null || req.title().isBlank()) {
+                throw new TaskImportException(row, imported, "title is required");
+            }
+            if (req.title().length() > TITLE_MAX_LENGTH) {
+                throw new TaskImportException(row, imported, "title is longer than " + TITLE_MAX_LENGTH + " characters");
+            }
+            chunk.add(req);
+            if (chunk.size() == IMPORT_CHUNK) {
+                imported += writeChunk(userId, projectId, chunk);
+                chunks++;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += writeChunk(userId, projectId, chunk);
+            chunks++;
+        }
+        return new ImportResult(imported, chunks);
+    }
+
+    // ligne illisible (CSV mal formé, JSON invalide, date) -> 400 avec le numéro de ligne
+    private static TaskCreateRequest nextRow(Iterator<TaskCreateRequest> rows, long row, long imported) {
+        try {
+            return rows.hasNext() ? rows.next() : null;
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new TaskImportException(row, imported, ex.getMessage());
+        }
+    }
+
+    // chaque chunk = une transaction (TaskService.addTasks), les chunks déjà écrits restent en cas d'erreur
+    private int writeChunk(Long userId, Long projectId, List<TaskCreateRequest> chunk) {
+        int n = taskService.addTasks(userId, projectId, chunk).size();
+        chunk.clear();
+        return n;
+    }
+
+    private Iterator<TaskCreateRequest> ndjsonRows(InputStream in) throws IOException {
+        MappingIterator<TaskCreateRequest> it;
+        try {
+            it = objectMapper.readerFor(TaskCreateRequest.class).readValues(in);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Invalid JSON: " + ex.getOriginalMessage());
+        }
+        // hasNextValue/nextValue: les erreurs de parsing restent des JsonProcessingException (pas RuntimeException)
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return it.hasNextValue();
+                } catch (IOException ex) {
+                    throw invalidJson(ex);
+                }
+            }
+
+            @Override
+            public TaskCreateRequest next() {
+                try {
+                    return it.nextValue();
+                } catch (IOException ex) {
+                    throw invalidJson(ex);
+                }
+            }
+        };
+    }
+
+    private static RuntimeException invalidJson(IOException ex) {
+        if (ex instanceof JsonProcessingException json) {
+            return new IllegalArgumentException("Invalid JSON: " + json.getOriginalMessage());
+        }
+        return new UncheckedIOException(ex);
+    }
+
+    private static String checkFormat(String format) {
+        String f = (format == null || format.isBlank()) ? NDJSON : format.toLowerCase();
+        if (!NDJSON.equals(f) && !CSV.equals(f)) {
+            throw new BadRequestException("Unsupported format '" + format + "', expected ndjson or csv");
+        }
+        return f;
+    }
+
+    private static String csvEscape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Minimal RFC 4180 reader: one record at a time, quoted fields may contain commas,
+     * escaped quotes and line breaks. Columns are resolved by header name.
+     */
+    static final class CsvTaskIterator implements Iterator<TaskCreateRequest> {
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private List<String> next;
+        // lecture paresseuse: une erreur de parsing remonte au next() de sa propre ligne
+        private boolean fetched;
+
+        CsvTaskIterator(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> header = readRecord();
+            if (header == null) {
+                fetched = true;
+                return;
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+            if (!columns.containsKey("title")) {
+                throw new IllegalArgumentException("CSV header must contain a 'title' column");
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                try {
+                    next = readRecord();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to read CSV", e);
+                }
+                fetched = true;
+            }
+            return next != null;
+        }
+
+        @Override
+        public TaskCreateRequest next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<String> record = next;
+            fetched = false;
+            String due = column(record, "dueDate");
+            return new TaskCreateRequest(
+                    column(record, "title"),
+                    emptyToNull(column(record, "description")),
+                    (due == null || due.isBlank()) ? null : LocalDate.parse(due.trim())
+            );
+        }
+
+        private String column(List<String> record, String name) {
+            Integer i = columns.get(name);
+            return (i == null || i >= record.size()) ? null : record.get(i);
+        }
+
+        private static String emptyToNull(String s) {
+            return (s == null || s.isEmpty()) ? null : s;
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            // skip blank lines
+            while (c == '\n' || c == '\r') {
+                c = reader.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unterminated quoted field in CSV");
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.support.ApiFixture;
+
+/**
+ * Agenda: bucket boundaries around {@code today}, completed tasks and other owners left out,
+ * one cap per bucket, 400 on an unusable {@code today}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class AgendaTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2030, 6, 15);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ApiFixture api;
+    private String token;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        api = new ApiFixture(mockMvc, objectMapper);
+        token = api.register("agenda");
+        projectId = api.createProject(token, "agenda");
+    }
+
+    @Test
+    void bucketsSplitOnTodayAndStopAtTodayPlusDays() throws Exception {
+        long yesterday = createTask(token, projectId, "yesterday", TODAY.minusDays(1));
+        long today = createTask(token, projectId, "today", TODAY);
+        long lastDay = createTask(token, projectId, "last day", TODAY.plusDays(3));
+        createTask(token, projectId, "after", TODAY.plusDays(4));
+        createTask(token, projectId, "no due date", null);
+
+        JsonNode agenda = agenda(token, "today=" + TODAY + "&days=3");
+
+        assertEquals(List.of(yesterday), ids(agenda.get("overdue")));
+        assertEquals(List.of(today), ids(agenda.get("dueToday")));
+        assertEquals(List.of(lastDay), ids(agenda.get("upcoming")));
+        assertFalse(agenda.get("truncated").asBoolean());
+
+        // days=0: rien au-delà d'aujourd'hui
+        assertTrue(agenda(token, "today=" + TODAY + "&days=0").get("upcoming").isEmpty());
+    }
+
+    @Test
+    void completedTasksAndOtherOwnersAreLeftOut() throws Exception {
+        long done = createTask(token, projectId, "done", TODAY);
+        mockMvc.perform(patch("/api/projects/" + projectId + "/tasks/" + done + "/toggle").with(bearer(token)))
+                .andExpect(status().isOk());
+        long open = createTask(token, projectId, "open", TODAY);
+
+        String other = api.register("agenda-other");
+        long otherProject = api.createProject(other, "other");
+        long foreign = createTask(other, otherProject, "foreign", TODAY);
+
+        assertEquals(List.of(open), ids(agenda(token, "today=" + TODAY).get("dueToday")));
+        assertEquals(List.of(foreign), ids(agenda(other, "today=" + TODAY).get("dueToday")));
+    }
+
+    // un gros retard ne doit pas vider today / upcoming
+    @Test
+    void overdueBacklogDoesNotStarveLaterBuckets() throws Exception {
+        StringBuilder body = new StringBuilder("{\"tasks\":[");
+        for (int i = 0; i < 501; i++) {
+            body.append(i == 0 ? "" : ",")
+                    .append("{\"title\":\"late ").append(i).append("\",\"dueDate\":\"").append(TODAY.minusDays(10)).append("\"}");
+        }
+        mockMvc.perform(post("/api/projects/" + projectId + "/tasks/bulk").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.append("]}").toString()))
+                .andExpect(status().isOk());
+        long today = createTask(token, projectId, "today", TODAY);
+        long tomorrow = createTask(token, projectId, "tomorrow", TODAY.plusDays(1));
+
+        JsonNode agenda = agenda(token, "today=" + TODAY);
+
+        assertEquals(500, agenda.get("overdue").size());
+        assertEquals(List.of(today), ids(agenda.get("dueToday")));
+        assertEquals(List.of(tomorrow), ids(agenda.get("upcoming")));
+        assertTrue(agenda.get("truncated").asBoolean());
+    }
+
+    @Test
+    void unusableTodayIsBadRequest() throws Exception {
+        for (String today : List.of("not-a-date", "2030-02-30", "+999999999-12-31", "9999-12-31", "0001-01-01")) {
+            mockMvc.perform(get("/api/tasks/agenda").param("today", today).with(bearer(token)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    private long createTask(String token, long projectId, String title, LocalDate dueDate) throws Exception {
+        String due = (dueDate == null) ? "" : ",\"dueDate\":\"" + dueDate + "\"";
+        return api.json(mockMvc.perform(post("/api/projects/" + projectId + "/tasks").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\"" + due + "}"))
+                .andExpect(status().isOk())
+                .andReturn()).get("id").asLong();
+    }
+
+    private JsonNode agenda(String token, String query) throws Exception {
+        return api.json(mockMvc.perform(get("/api/tasks/agenda?" + query).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
+    private static List<Long> ids(JsonNode items) {
+        List<Long> ids = new ArrayList<>();
+        items.forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,174 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.repository.ChangeLogRepository;
+import com.hahn.projectmanager.repository.ChangeSequenceRepository;
+import com.hahn.projectmanager.service.ChangeLogCompactor;
+import com.hahn.projectmanager.support.ApiFixture;
+
+/**
+ * Delta sync: only what changed since the cursor, collapsed per entity, tombstones for deletes,
+ * reset once the cursor was compacted away.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class ChangesControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ChangeLogCompactor compactor;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private ChangeSequenceRepository changeSequenceRepository;
+
+    private ApiFixture api;
+    private String token;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        api = new ApiFixture(mockMvc, objectMapper);
+        token = api.register("changes");
+        projectId = api.createProject(token, "sync");
+    }
+
+    @Test
+    void returnsOnlyWhatChangedSinceCursor() throws Exception {
+        JsonNode start = changes(null);
+        assertTrue(start.get("reset").asBoolean());
+        String cursor = start.get("cursor").asText();
+
+        long kept = api.createTask(token, projectId, "kept");
+        long removed = api.createTask(token, projectId, "removed");
+        mockMvc.perform(patch(tasks() + "/" + kept + "/toggle").with(bearer(token))).andExpect(status().isOk());
+        mockMvc.perform(delete(tasks() + "/" + removed).with(bearer(token))).andExpect(status().isOk());
+
+        JsonNode delta = changes(cursor);
+        assertFalse(delta.get("reset").asBoolean());
+        assertFalse(delta.get("hasMore").asBoolean());
+        // créée puis togglée: une seule fois, dans son état courant
+        assertEquals(1, delta.get("tasks").size());
+        assertEquals(kept, delta.get("tasks").get(0).get("id").asLong());
+        assertTrue(delta.get("tasks").get(0).get("completed").asBoolean());
+        assertEquals(List.of(removed), ids(delta.get("deletedTaskIds")));
+        // compteurs du project
+        assertEquals(1, delta.get("projects").get(0).get("totalTasks").asLong());
+        assertEquals(1, delta.get("projects").get(0).get("completedTasks").asLong());
+
+        // rien de neuf
+        JsonNode empty = changes(delta.get("cursor").asText());
+        assertEquals(delta.get("cursor").asText(), empty.get("cursor").asText());
+        assertEquals(0, empty.get("tasks").size());
+        assertEquals(0, empty.get("projects").size());
+    }
+
+    @Test
+    void projectDeleteIsATombstone() throws Exception {
+        String cursor = changes(null).get("cursor").asText();
+        api.createTask(token, projectId, "t");
+        mockMvc.perform(put("/api/projects/" + projectId).with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"renamed\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/projects/" + projectId).with(bearer(token))).andExpect(status().isOk());
+
+        JsonNode delta = changes(cursor);
+        assertEquals(0, delta.get("projects").size());
+        assertEquals(List.of(projectId), ids(delta.get("deletedProjectIds")));
+    }
+
+    @Test
+    void pagesWithLimit() throws Exception {
+        String cursor = changes(null).get("cursor").asText();
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(api.createTask(token, projectId, "t" + i));
+        }
+
+        List<Long> seen = new ArrayList<>();
+        JsonNode page;
+        do {
+            page = api.json(mockMvc.perform(get("/api/changes").param("since", cursor).param("limit", "2").with(bearer(token)))
+                    .andExpect(status().isOk())
+                    .andReturn());
+            page.get("tasks").forEach(t -> seen.add(t.get("id").asLong()));
+            cursor = page.get("cursor").asText();
+        } while (page.get("hasMore").asBoolean());
+        assertEquals(created, seen);
+    }
+
+    @Test
+    void compactionKeepsLatestStateAndResetsExpiredCursors() throws Exception {
+        String cursor = changes(null).get("cursor").asText();
+        long taskId = api.createTask(token, projectId, "t");
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(patch(tasks() + "/" + taskId + "/toggle").with(bearer(token))).andExpect(status().isOk());
+        }
+        JsonNode before = changes(cursor);
+
+        compactor.compact();
+        assertEquals(before, changes(cursor));
+
+        // tout expiré: l'ancien curseur ne peut plus être servi
+        Instant future = Instant.now().plus(1, ChronoUnit.DAYS);
+        changeSequenceRepository.raiseFloors(future);
+        changeLogRepository.deleteOlderThan(future);
+        JsonNode reset = changes(cursor);
+        assertTrue(reset.get("reset").asBoolean());
+        assertEquals(before.get("cursor"), reset.get("cursor"));
+        assertFalse(changes(reset.get("cursor").asText()).get("reset").asBoolean());
+    }
+
+    private String tasks() {
+        return "/api/projects/" + projectId + "/tasks";
+    }
+
+    private JsonNode changes(String since) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/changes");
+        if (since != null) {
+            request.param("since", since);
+        }
+        return api.json(mockMvc.perform(request.with(bearer(token))).andExpect(status().isOk()).andReturn());
+    }
+
+    private static List<Long> ids(JsonNode array) {
+        List<Long> ids = new ArrayList<>();
+        array.forEach(n -> ids.add(n.asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,129 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.support.ApiFixture;
+import com.hahn.projectmanager.support.SqlStatements;
+
+/**
+ * ETags from entity versions: 304 with at most one version query, new tag after every change,
+ * If-Match on task writes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ApiFixture api;
+    private String token;
+    private long projectId;
+    private long taskId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        api = new ApiFixture(mockMvc, objectMapper);
+        token = api.register("etag");
+        projectId = api.createProject(token, "etag");
+        taskId = api.createTask(token, projectId, "task");
+    }
+
+    @Test
+    void notModifiedCostsAtMostOneQueryAndNoBody() throws Exception {
+        notModified("/api/projects", 1);
+        notModified("/api/projects/progress", 1);
+        // tag lu sur le Project en cache de 2e niveau
+        notModified("/api/projects/" + projectId, 0);
+        notModified("/api/projects/" + projectId + "/tasks", 0);
+        notModified("/api/projects/" + projectId + "/tasks/" + taskId, 1);
+    }
+
+    @Test
+    void taskChangesBumpListTags() throws Exception {
+        String tasks = "/api/projects/" + projectId + "/tasks";
+        String tasksTag = etag(tasks);
+        String projectsTag = etag("/api/projects");
+
+        mockMvc.perform(patch(tasks + "/" + taskId + "/toggle").with(bearer(token))).andExpect(status().isOk());
+        String afterToggle = etag(tasks);
+        assertNotEquals(tasksTag, afterToggle);
+        // compteurs changés -> la liste des projects aussi
+        assertNotEquals(projectsTag, etag("/api/projects"));
+
+        // titre seul, sans changement de compteur
+        mockMvc.perform(put(tasks + "/" + taskId).with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"renamed\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(tasks).with(bearer(token)).header(HttpHeaders.IF_NONE_MATCH, afterToggle))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void staleIfMatchIsRejected() throws Exception {
+        String task = "/api/projects/" + projectId + "/tasks/" + taskId;
+        String etag = etag(task);
+
+        String next = mockMvc.perform(put(task).with(bearer(token))
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"first\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etag, next);
+
+        // second writer still holds the old tag
+        mockMvc.perform(put(task).with(bearer(token))
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"second\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch(task + "/toggle").with(bearer(token)).header(HttpHeaders.IF_MATCH, etag))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch(task + "/toggle").with(bearer(token)).header(HttpHeaders.IF_MATCH, next))
+                .andExpect(status().isOk());
+    }
+
+    private void notModified(String url, int statements) throws Exception {
+        String etag = etag(url);
+        mockMvc.perform(get(url).with(bearer(token)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(content().string(""))
+                .andExpect(SqlStatements.count(statements));
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag, url);
+        return etag;
+    }
+}
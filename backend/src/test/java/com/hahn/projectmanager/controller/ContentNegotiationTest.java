@@ -0,0 +1,101 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.hahn.projectmanager.support.ApiFixture;
+
+/**
+ * Smile / CBOR on Accept, JSON by default: same document whatever the encoding.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class ContentNegotiationTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String token;
+    private String tasks;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ApiFixture api = new ApiFixture(mockMvc, objectMapper);
+        token = api.register("formats");
+        tasks = "/api/projects/" + api.createProject(token, "formats") + "/tasks";
+        mockMvc.perform(post(tasks + "/bulk").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tasks\":[{\"title\":\"a\",\"dueDate\":\"2026-03-01\"},{\"title\":\"b\"}]}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void jsonStaysTheDefault() throws Exception {
+        mockMvc.perform(get("/api/projects").with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get("/api/projects").with(bearer(token)).accept(MediaType.ALL))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void binaryFormatsCarryTheSameDocument() throws Exception {
+        for (String url : new String[]{"/api/projects", tasks + "/paged", tasks + "/cursor"}) {
+            JsonNode json = objectMapper.readTree(read(url, MediaType.APPLICATION_JSON));
+            JsonNode smile = new SmileMapper().readTree(read(url, SMILE));
+            JsonNode cbor = new CBORMapper().readTree(read(url, CBOR));
+            assertEquals(json, smile, url);
+            assertEquals(json, cbor, url);
+        }
+        // dates en chaîne ISO, comme en JSON
+        JsonNode page = new SmileMapper().readTree(read(tasks + "/paged", SMILE));
+        assertTrue(page.toString().contains("\"2026-03-01\""), page.toString());
+    }
+
+    // tag faible sur les listes: partagé par les encodages, et compressible par Tomcat
+    @Test
+    void listTagsAreWeakAndVaryByAccept() throws Exception {
+        for (String url : new String[]{"/api/projects", tasks}) {
+            mockMvc.perform(get(url).with(bearer(token)).accept(SMILE))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        }
+    }
+
+    private byte[] read(String url, MediaType type) throws Exception {
+        return mockMvc.perform(get(url).with(bearer(token)).accept(type))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(type))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
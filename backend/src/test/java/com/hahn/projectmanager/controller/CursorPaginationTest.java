@@ -0,0 +1,120 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.support.ApiFixture;
+
+/**
+ * Keyset pagination through the API: following nextCursor returns every row once, even with ties
+ * on the sort key; a bad cursor or sort is a 400.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class CursorPaginationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ApiFixture api;
+    private String token;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        api = new ApiFixture(mockMvc, objectMapper);
+        token = api.register("cursor");
+        projectId = api.createProject(token, "cursor");
+    }
+
+    @Test
+    void tiesOnTitleAreBrokenById() throws Exception {
+        List<Long> expected = new ArrayList<>();
+        // 3 x "same" puis "z": les égalités tombent à cheval sur les pages de 2
+        long z = api.createTask(token, projectId, "z");
+        for (int i = 0; i < 3; i++) {
+            expected.add(api.createTask(token, projectId, "same"));
+        }
+        expected.add(api.createTask(token, projectId, "a"));
+        expected.add(0, expected.remove(3));
+        expected.add(z);
+
+        assertEquals(expected, pageThrough("/api/projects/" + projectId + "/tasks/cursor", "title"));
+    }
+
+    @Test
+    void idSortReturnsEveryRowOnce() throws Exception {
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(api.createTask(token, projectId, "t" + i));
+        }
+        assertEquals(expected, pageThrough("/api/projects/" + projectId + "/tasks/cursor", null));
+    }
+
+    @Test
+    void badCursorOrSortIsBadRequest() throws Exception {
+        String tasks = "/api/projects/" + projectId + "/tasks/cursor";
+        mockMvc.perform(get(tasks).param("cursor", "%%garbage%%").with(bearer(token)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor"));
+        mockMvc.perform(get(tasks).param("sort", "dueDate").with(bearer(token)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/projects/cursor").param("cursor", "bm9wZQ").with(bearer(token)))
+                .andExpect(status().isBadRequest());
+
+        // cursor valide pour "id", rejoué avec sort=title
+        api.createTask(token, projectId, "a");
+        api.createTask(token, projectId, "b");
+        String idCursor = page(get(tasks).param("size", "1")).get("nextCursor").asText();
+        mockMvc.perform(get(tasks).param("cursor", idCursor).param("sort", "title").with(bearer(token)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> pageThrough(String path, String sort) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder req = get(path).param("size", "2");
+            if (sort != null) {
+                req.param("sort", sort);
+            }
+            if (cursor != null) {
+                req.param("cursor", cursor);
+            }
+            JsonNode page = page(req);
+            page.get("content").forEach(t -> ids.add(t.get("id").asLong()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            assertTrue(++pages <= 10, "cursor does not advance");
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode page(MockHttpServletRequestBuilder req) throws Exception {
+        return api.json(mockMvc.perform(req.with(bearer(token)))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+}
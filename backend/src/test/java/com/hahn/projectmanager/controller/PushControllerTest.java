@@ -0,0 +1,92 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.support.ApiFixture;
+
+/**
+ * SSE push: JWT in the query string, task-changed and progress-changed after commit,
+ * only to the owner's streams.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class PushControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ApiFixture api;
+
+    @BeforeEach
+    void setUp() {
+        api = new ApiFixture(mockMvc, objectMapper);
+    }
+
+    @Test
+    void streamNeedsAToken() throws Exception {
+        mockMvc.perform(get("/api/push/stream")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/push/stream").param("access_token", "garbage")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void pushesTaskAndProgressChangesToTheOwner() throws Exception {
+        String alice = api.register("alice");
+        String bob = api.register("bob");
+        MvcResult aliceStream = open(alice);
+        MvcResult bobStream = open(bob);
+
+        long projectId = api.createProject(alice, "push");
+        String tasks = "/api/projects/" + projectId + "/tasks";
+        long taskId = api.createTask(alice, projectId, "t");
+        mockMvc.perform(patch(tasks + "/" + taskId + "/toggle").with(bearer(alice)))
+                .andExpect(status().isOk());
+
+        String events = await(aliceStream.getResponse(), "\"completedTasks\":1");
+        assertTrue(events.contains("event:task-changed"), events);
+        assertTrue(events.contains("\"taskIds\":[" + taskId + "]"), events);
+        assertTrue(events.contains("event:progress-changed"), events);
+        assertTrue(events.contains("\"progressPercentage\":100"), events);
+        assertFalse(bobStream.getResponse().getContentAsString().contains("task-changed"));
+    }
+
+    private MvcResult open(String token) throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/push/stream").param("access_token", token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        await(stream.getResponse(), "event:ready");
+        return stream;
+    }
+
+    // écrit par les threads de dispatch, après le commit
+    private static String await(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), content);
+        return content;
+    }
+}
@@ -0,0 +1,138 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.support.ApiFixture;
+import com.hahn.projectmanager.support.SqlStatements;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Exact JDBC statement counts per endpoint: a lazy load or an extra ownership query
+ * added to a service shows up here as a failing count. Second-level cache off: cold-cache counts.
+ */
+@SpringBootTest(properties = {
+        "app.sql-budget.handlers[ProgressController#getProgress]=0",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class SqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ApiFixture api;
+    private String token;
+    private long projectId;
+    private long taskId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        api = new ApiFixture(mockMvc, objectMapper);
+        token = api.register("sql");
+        projectId = api.createProject(token, "budget");
+        for (int i = 0; i < 3; i++) {
+            taskId = api.createTask(token, projectId, "task " + i);
+        }
+    }
+
+    @Test
+    void projectEndpoints() throws Exception {
+        // GET: + 1 requête de versions pour l'ETag (cf. ConditionalGetTest, un 304 n'en coûte qu'une)
+        expect(get("/api/projects"), 2);
+        expect(get("/api/projects/paged"), 2);
+        expect(get("/api/projects/cursor"), 2);
+        expect(get("/api/projects/" + projectId), 2);
+        // écritures: + 3 pour le change log (SELECT FOR UPDATE de la séquence, UPDATE, INSERT batché)
+        expect(post("/api/projects").contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"x\"}"), 5);
+        expect(put("/api/projects/" + projectId).contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"y\"}"), 5);
+    }
+
+    @Test
+    void progressEndpoints() throws Exception {
+        // compteurs dénormalisés: pas de COUNT sur tasks
+        expect(get("/api/projects/" + projectId + "/progress"), 1);
+        expect(get("/api/projects/progress"), 2);
+    }
+
+    @Test
+    void taskEndpoints() throws Exception {
+        String tasks = "/api/projects/" + projectId + "/tasks";
+        expect(get(tasks), 3);
+        expect(get(tasks + "/paged"), 3);
+        expect(get(tasks + "/cursor"), 3);
+        expect(get(tasks + "/" + taskId), 2);
+        // écritures: + 1 SELECT après commit, l'index de recherche relit les lignes validées
+        expect(post(tasks).contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"t\"}"), 7);
+        expect(put(tasks + "/" + taskId).contentType(MediaType.APPLICATION_JSON).content("{\"title\":\"t2\"}"), 7);
+        expect(patch(tasks + "/" + taskId + "/toggle"), 7);
+        expect(post(tasks + "/bulk").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"tasks\":[{\"title\":\"a\"},{\"title\":\"b\"}]}"), 7);
+        // agenda: une requête bornée par bucket (overdue, today, upcoming)
+        expect(get("/api/tasks/agenda"), 3);
+    }
+
+    // N+1: le nombre de requêtes ne doit pas dépendre du nombre de lignes renvoyées
+    @Test
+    void listsDoNotGrowWithRows() throws Exception {
+        String tasks = "/api/projects/" + projectId + "/tasks";
+        int tasksBefore = statements(get(tasks));
+        int projectsBefore = statements(get("/api/projects"));
+
+        for (int i = 0; i < 10; i++) {
+            api.createTask(token, projectId, "more " + i);
+            api.createProject(token, "more " + i);
+        }
+
+        expect(get(tasks), tasksBefore);
+        expect(get("/api/projects"), projectsBefore);
+        expect(get("/api/projects/progress"), 2);
+    }
+
+    @Test
+    void overBudgetIsCounted() throws Exception {
+        double before = overBudget("ProgressController#getProgress");
+        expect(get("/api/projects/" + projectId + "/progress"), 1); // budget 0 dans @SpringBootTest
+        assertEquals(before + 1, overBudget("ProgressController#getProgress"));
+    }
+
+    private double overBudget(String handler) {
+        Counter c = meterRegistry.find("http.server.requests.sql.over_budget").tag("handler", handler).counter();
+        return c == null ? 0 : c.count();
+    }
+
+    private void expect(MockHttpServletRequestBuilder request, int statements) throws Exception {
+        mockMvc.perform(request.with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(SqlStatements.count(statements));
+    }
+
+    private int statements(MockHttpServletRequestBuilder request) throws Exception {
+        return SqlStatements.of(mockMvc.perform(request.with(bearer(token))).andExpect(status().isOk()).andReturn());
+    }
+}
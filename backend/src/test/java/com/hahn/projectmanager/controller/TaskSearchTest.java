@@ -0,0 +1,203 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.dto.AuthResponse;
+import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.RegisterRequest;
+import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskUpdateRequest;
+import com.hahn.projectmanager.service.AuthService;
+import com.hahn.projectmanager.service.ProjectService;
+import com.hahn.projectmanager.service.TaskService;
+import com.hahn.projectmanager.support.ApiFixture;
+
+/**
+ * Full-text search: owner filter, index kept in sync with every task write after commit,
+ * title matches ranked first, prefix on the last word.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class TaskSearchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ApiFixture api;
+    private String token;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        api = new ApiFixture(mockMvc, objectMapper);
+        token = api.register("search");
+        projectId = api.createProject(token, "search");
+    }
+
+    @Test
+    void otherUsersTasksNeverMatch() throws Exception {
+        long mine = api.createTask(token, projectId, "quarterly budget");
+        String intruder = api.register("intruder");
+        long theirProject = api.createProject(intruder, "theirs");
+        long theirs = api.createTask(intruder, theirProject, "quarterly budget");
+
+        assertEquals(List.of(mine), ids(search(token, "quarterly budget")));
+        assertEquals(List.of(theirs), ids(search(intruder, "quarterly budget")));
+    }
+
+    @Test
+    void taskWritesShowUpAfterCommit() throws Exception {
+        long id = api.createTask(token, projectId, "invoice customer");
+        assertEquals(List.of(id), ids(search(token, "invoice")));
+
+        mockMvc.perform(put("/api/projects/" + projectId + "/tasks/" + id).with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"refund customer\"}"))
+                .andExpect(status().isOk());
+        assertEquals(List.of(), ids(search(token, "invoice")));
+        assertEquals(List.of(id), ids(search(token, "refund")));
+
+        mockMvc.perform(patch("/api/projects/" + projectId + "/tasks/" + id + "/toggle").with(bearer(token)))
+                .andExpect(status().isOk());
+        assertEquals(true, search(token, "refund").get("hits").get(0).get("completed").asBoolean());
+
+        // bulk: création puis renommage
+        mockMvc.perform(post("/api/projects/" + projectId + "/tasks/bulk").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tasks\":[{\"title\":\"bulk alpha\"},{\"title\":\"bulk beta\"}]}"))
+                .andExpect(status().isOk());
+        List<Long> bulk = ids(search(token, "bulk"));
+        assertEquals(2, bulk.size());
+        mockMvc.perform(put("/api/projects/" + projectId + "/tasks/bulk").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tasks\":[{\"id\":" + bulk.get(0) + ",\"title\":\"renamed gamma\"}]}"))
+                .andExpect(status().isOk());
+        assertEquals(List.of(bulk.get(0)), ids(search(token, "gamma")));
+
+        mockMvc.perform(delete("/api/projects/" + projectId + "/tasks/" + id).with(bearer(token)))
+                .andExpect(status().isOk());
+        assertEquals(List.of(), ids(search(token, "refund")));
+    }
+
+    @Test
+    void deletingTheProjectRemovesItsTasks() throws Exception {
+        api.createTask(token, projectId, "archive reports");
+        long other = api.createProject(token, "kept");
+        long kept = api.createTask(token, other, "archive reports");
+
+        mockMvc.perform(delete("/api/projects/" + projectId).with(bearer(token)))
+                .andExpect(status().isOk());
+        assertEquals(List.of(kept), ids(search(token, "archive")));
+    }
+
+    @Test
+    void titleMatchesRankFirstAndLastWordIsAPrefix() throws Exception {
+        long inDescription = createTask("weekly sync", "prepare the kanban board");
+        long inTitle = createTask("kanban board", null);
+
+        assertEquals(List.of(inTitle, inDescription), ids(search(token, "kanban")));
+        // "boa" en cours de saisie
+        assertEquals(List.of(inTitle, inDescription), ids(search(token, "kanban boa")));
+        assertEquals(List.of(), ids(search(token, "boa kanban")));
+    }
+
+    @Test
+    void pageBeyondTheResultWindowIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("q", "x").param("page", "2147483647").with(bearer(token)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/search").param("q", "x").param("page", "100").param("size", "100")
+                        .with(bearer(token)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tasks/search").param("q", "x").param("page", "99").param("size", "100")
+                        .with(bearer(token)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void hooksRunningOutOfOrderIndexTheLatestCommit() throws Exception {
+        AuthResponse auth = authService.register(new RegisterRequest("order-" + System.nanoTime() + "@test.dev", "pw", "Order"));
+        long userId = auth.userId();
+        long project = projectService.createProject(userId, new ProjectCreateRequest("order", null)).getId();
+        long id = taskService.addTask(userId, project, new TaskCreateRequest("draft", null, null)).getId();
+
+        TransactionTemplate first = new TransactionTemplate(transactionManager);
+        TransactionTemplate second = new TransactionTemplate(transactionManager);
+        second.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        first.executeWithoutResult(tx -> {
+            // enregistré avant celui de l'index: la 2e écriture commit et indexe avant le hook de la 1re
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    second.executeWithoutResult(tx2 -> taskService.updateTask(userId, project, id,
+                            new TaskUpdateRequest("latest", null, null), null));
+                }
+            });
+            taskService.updateTask(userId, project, id, new TaskUpdateRequest("stale", null, null), null);
+        });
+
+        assertEquals(List.of(id), ids(search(auth.token(), "latest")));
+        assertEquals(List.of(), ids(search(auth.token(), "stale")));
+    }
+
+    private long createTask(String title, String description) throws Exception {
+        return api.json(mockMvc.perform(post("/api/projects/" + projectId + "/tasks").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskCreateRequest(title, description, null))))
+                .andExpect(status().isOk())
+                .andReturn()).get("id").asLong();
+    }
+
+    private JsonNode search(String userToken, String q) throws Exception {
+        return api.json(mockMvc.perform(get("/api/tasks/search").param("q", q).with(bearer(userToken)))
+                .andExpect(status().isOk())
+                .andReturn());
+    }
+
+    private static List<Long> ids(JsonNode response) {
+        List<Long> ids = new ArrayList<>();
+        response.get("hits").forEach(h -> ids.add(h.get("id").asLong()));
+        return ids;
+    }
+}
@@ -0,0 +1,156 @@
+package com.hahn.projectmanager.controller;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hahn.projectmanager.dto.TaskBulkCreateRequest;
+import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskSummary;
+import com.hahn.projectmanager.support.ApiFixture;
+
+/**
+ * Export then import gives back the same tasks in both formats; a bad row is a 400 carrying
+ * its row number and how many rows were already imported.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class TaskTransferTest {
+
+    private static final List<TaskCreateRequest> TRICKY = List.of(
+            new TaskCreateRequest("plain", null, null),
+            new TaskCreateRequest("comma, inside", "two\nlines", LocalDate.of(2026, 3, 1)),
+            new TaskCreateRequest("say \"hi\"", "\"quoted\", and more", null),
+            new TaskCreateRequest("accents é à", "", LocalDate.of(2027, 12, 31))
+    );
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ApiFixture api;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        api = new ApiFixture(mockMvc, objectMapper);
+        token = api.register("transfer");
+    }
+
+    @Test
+    void ndjsonRoundTrip() throws Exception {
+        roundTrip("ndjson", "application/x-ndjson", TRICKY);
+    }
+
+    @Test
+    void csvRoundTrip() throws Exception {
+        // CSV ne distingue pas "" de null: champ vide -> null à l'import
+        roundTrip("csv", "text/csv", TRICKY.stream()
+                .map(t -> new TaskCreateRequest(t.title(), "".equals(t.description()) ? null : t.description(), t.dueDate()))
+                .toList());
+    }
+
+    @Test
+    void badRowReportsRowNumberAndImportedCount() throws Exception {
+        long projectId = api.createProject(token, "bad-row");
+        StringBuilder csv = new StringBuilder("title\n");
+        for (int i = 1; i <= 501; i++) {
+            csv.append("t").append(i).append('\n');
+        }
+        // ligne 502: titre vide; le premier chunk (500) est déjà commité
+        csv.append("\"\"\n");
+
+        importAs(projectId, "csv", "text/csv", csv.toString())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Row 502: title is required"))
+                .andExpect(jsonPath("$.fieldErrors.row").value("502"))
+                .andExpect(jsonPath("$.fieldErrors.imported").value("500"));
+        assertEquals(500, tasks(projectId).size());
+    }
+
+    @Test
+    void malformedInputIsBadRequest() throws Exception {
+        long projectId = api.createProject(token, "malformed");
+
+        importAs(projectId, "csv", "text/csv", "name\nx\n")
+                .andExpect(status().isBadRequest());
+        importAs(projectId, "csv", "text/csv", "title\nok\n\"open\n")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.row").value("2"));
+        importAs(projectId, "csv", "text/csv", "title,dueDate\nok,31/12/2026\n")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.row").value("1"));
+        importAs(projectId, "ndjson", "application/x-ndjson", "{\"title\":\"ok\"}\n{\"title\":\n")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.row").value("2"));
+        importAs(projectId, "xml", "text/csv", "title\nok\n")
+                .andExpect(status().isBadRequest());
+
+        // rien n'est écrit: l'erreur tombe avant la fin du premier chunk
+        assertEquals(0, tasks(projectId).size());
+    }
+
+    private void roundTrip(String format, String contentType, List<TaskCreateRequest> expected) throws Exception {
+        long source = api.createProject(token, "source-" + format);
+        mockMvc.perform(post("/api/projects/" + source + "/tasks/bulk").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new TaskBulkCreateRequest(TRICKY))))
+                .andExpect(status().isOk());
+
+        MvcResult export = mockMvc.perform(get("/api/projects/" + source + "/tasks/export")
+                        .param("format", format).with(bearer(token)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(export))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        long target = api.createProject(token, "target-" + format);
+        importAs(target, format, contentType, body)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(TRICKY.size()));
+
+        assertEquals(expected, tasks(target).stream()
+                .map(t -> new TaskCreateRequest(t.title(), t.description(), t.dueDate()))
+                .toList());
+    }
+
+    private ResultActions importAs(long projectId, String format, String contentType, String body) throws Exception {
+        return mockMvc.perform(post("/api/projects/" + projectId + "/tasks/import").with(bearer(token))
+                .param("format", format)
+                .contentType(contentType)
+                .content(body));
+    }
+
+    private List<TaskSummary> tasks(long projectId) throws Exception {
+        String json = mockMvc.perform(get("/api/projects/" + projectId + "/tasks").with(bearer(token)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, new TypeReference<>() {});
+    }
+}
@@ -0,0 +1,172 @@
+package com.hahn.projectmanager.datasource;
+
+import static com.hahn.projectmanager.support.ApiFixture.bearer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.hahn.projectmanager.dto.AuthResponse;
+import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.RegisterRequest;
+import com.hahn.projectmanager.entity.Project;
+import com.hahn.projectmanager.logging.RequestLoggingFilter;
+import com.hahn.projectmanager.service.AuthService;
+import com.hahn.projectmanager.service.ProjectService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Read/write split on two pools over the same in-memory database (a replica with no lag):
+ * GET reads use the replica pool, writes and the writer's next reads the primary, a stale replica is skipped.
+ * The heartbeat is driven by hand.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:replica-routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.heartbeat-interval=1h",
+        "app.datasource.replica.read-your-writes=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles({"embedded", "test"})
+class ReplicaRoutingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private ReplicaRoutingFilter routingFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String token;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() {
+        // données créées hors requête HTTP: l'user n'est pas encore un "writer" récent
+        AuthResponse auth = authService.register(new RegisterRequest("replica-" + System.nanoTime() + "@test.dev", "pw", "Replica"));
+        token = auth.token();
+        projectId = projectService.createProject(auth.userId(), new ProjectCreateRequest("replicated", null)).getId();
+        lagMonitor.check();
+    }
+
+    @AfterEach
+    void replicaBackInSync() {
+        lagMonitor.check();
+    }
+
+    @Test
+    void readsUseTheReplicaUntilTheUserWrites() throws Exception {
+        assertTrue(lagMonitor.usable());
+        long before = replicaConnections();
+        mockMvc.perform(get("/api/projects").with(bearer(token))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/projects/" + projectId + "/progress").with(bearer(token))).andExpect(status().isOk());
+        assertTrue(replicaConnections() > before);
+
+        before = replicaConnections();
+        mockMvc.perform(post("/api/projects").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"second\"}"))
+                .andExpect(status().isOk());
+        // read-your-writes: la liste suivante est lue sur le primary
+        mockMvc.perform(get("/api/projects").with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+        assertEquals(before, replicaConnections());
+    }
+
+    @Test
+    void readDuringTheUsersWriteUsesThePrimary() throws Exception {
+        long userId = System.nanoTime();
+        AtomicReference<Boolean> replicaDuringWrite = new AtomicReference<>();
+
+        // le GET passe pendant que le POST du même user est encore en cours (pas encore commité)
+        routingFilter.doFilter(request("POST", userId), new MockHttpServletResponse(),
+                (req, res) -> routingFilter.doFilter(request("GET", userId), new MockHttpServletResponse(),
+                        (r, s) -> replicaDuringWrite.set(ReadReplicaDataSource.replicaAllowed())));
+        assertFalse(replicaDuringWrite.get());
+
+        // un autre user lit toujours sur le replica
+        AtomicReference<Boolean> otherUser = new AtomicReference<>();
+        routingFilter.doFilter(request("GET", userId + 1), new MockHttpServletResponse(),
+                (r, s) -> otherUser.set(ReadReplicaDataSource.replicaAllowed()));
+        assertTrue(otherUser.get());
+    }
+
+    @Test
+    void staleReplicaFallsBackToPrimary() throws Exception {
+        jdbcTemplate.update("update " + ReplicaLagMonitor.TABLE + " set beat_at = ?", System.currentTimeMillis() - 60_000);
+        lagMonitor.measure();
+        assertFalse(lagMonitor.usable());
+
+        long before = replicaConnections();
+        mockMvc.perform(get("/api/projects").with(bearer(token))).andExpect(status().isOk());
+        assertEquals(before, replicaConnections());
+
+        lagMonitor.check();
+        assertTrue(lagMonitor.usable());
+        mockMvc.perform(get("/api/projects").with(bearer(token))).andExpect(status().isOk());
+        assertTrue(replicaConnections() > before);
+    }
+
+    @Test
+    void replicaReadsDoNotFillTheSecondLevelCache() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        var region = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(Project.CACHE_REGION);
+        long puts = region.getPutCount();
+
+        mockMvc.perform(get("/api/projects/" + projectId).with(bearer(token))).andExpect(status().isOk());
+        assertEquals(puts, region.getPutCount());
+    }
+
+    private static MockHttpServletRequest request(String method, long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/projects");
+        request.setAttribute(RequestLoggingFilter.USER_ID_ATTRIBUTE, userId);
+        return request;
+    }
+
+    private long replicaConnections() {
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", "replica").timer();
+        return acquire == null ? 0 : acquire.count();
+    }
+}
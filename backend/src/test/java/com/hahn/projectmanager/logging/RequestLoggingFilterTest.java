@@ -0,0 +1,123 @@
+package com.hahn.projectmanager.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+/**
+ * Access line: secret query parameters masked, unsafe X-Request-Id replaced,
+ * 5xx and slow requests logged even when sampling drops everything else.
+ */
+class RequestLoggingFilterTest {
+
+    private static final long SLOW_MS = 50;
+
+    private final Logger access = (Logger) LoggerFactory.getLogger("http.access");
+    private final ListAppender<ILoggingEvent> lines = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        lines.start();
+        access.addAppender(lines);
+    }
+
+    @AfterEach
+    void tearDown() {
+        access.detachAppender(lines);
+    }
+
+    @Test
+    void secretQueryParametersAreMasked() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/push");
+        request.setQueryString("access_token=abc.def&Password=hunter2&page=2&token");
+
+        run(filter(1.0), request, (req, res) -> { });
+
+        String line = onlyLine();
+        assertTrue(line.contains("path=/api/push?access_token=***&Password=***&page=2&token "), line);
+        assertFalse(line.contains("abc.def"), line);
+        assertFalse(line.contains("hunter2"), line);
+    }
+
+    @Test
+    void unsafeRequestIdIsReplaced() throws Exception {
+        MockHttpServletRequest safe = new MockHttpServletRequest("GET", "/api/projects");
+        safe.addHeader(RequestLoggingFilter.REQUEST_ID_HEADER, "client-42.a_b");
+        assertEquals("client-42.a_b", run(filter(1.0), safe, (req, res) -> { })
+                .getHeader(RequestLoggingFilter.REQUEST_ID_HEADER));
+
+        // retour à la ligne (injection dans les logs) puis id trop long
+        for (String unsafe : List.of("abc\nrequestId=forged", "x".repeat(65))) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+            request.addHeader(RequestLoggingFilter.REQUEST_ID_HEADER, unsafe);
+            String id = run(filter(1.0), request, (req, res) -> { })
+                    .getHeader(RequestLoggingFilter.REQUEST_ID_HEADER);
+            assertNotEquals(unsafe, id);
+            assertTrue(id.matches("[0-9a-f-]{36}"), id);
+        }
+        assertTrue(lines.list.stream().noneMatch(e -> e.getFormattedMessage().contains("forged")));
+    }
+
+    @Test
+    void serverErrorsAndSlowRequestsBypassSampling() throws Exception {
+        RequestLoggingFilter sampledOut = filter(0.0);
+
+        run(sampledOut, new MockHttpServletRequest("GET", "/api/projects"), (req, res) -> { });
+        assertTrue(lines.list.isEmpty());
+
+        run(sampledOut, new MockHttpServletRequest("GET", "/api/projects"),
+                (req, res) -> ((MockHttpServletResponse) res).setStatus(503));
+        assertTrue(onlyLine().contains("status=503"));
+
+        lines.list.clear();
+        run(sampledOut, new MockHttpServletRequest("GET", "/api/projects"), (req, res) -> Thread.sleep(SLOW_MS + 10));
+        assertTrue(onlyLine().contains("status=200"));
+    }
+
+    // taux par défaut, aucune route spécifique
+    private static RequestLoggingFilter filter(double sampleRate) {
+        return new RequestLoggingFilter(new RequestLogProperties(true, sampleRate, Map.of(), SLOW_MS));
+    }
+
+    private static MockHttpServletResponse run(RequestLoggingFilter filter, MockHttpServletRequest request, Chain chain)
+            throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain next = (req, res) -> {
+            try {
+                chain.run(req, res);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        filter.doFilter(request, response, next);
+        return response;
+    }
+
+    private String onlyLine() {
+        assertEquals(1, lines.list.size());
+        return lines.list.get(0).getFormattedMessage();
+    }
+
+    @FunctionalInterface
+    private interface Chain {
+        void run(ServletRequest req, ServletResponse res) throws InterruptedException;
+    }
+}
@@ -0,0 +1,118 @@
+package com.hahn.projectmanager.push;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Fan-out limits: a stream that stops reading is dropped once its buffer is full, and a user
+ * never holds more than max-streams-per-user streams.
+ */
+class PushHubTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch socketBlocked = new CountDownLatch(1);
+    private ExecutorService dispatcher;
+    private PushHub hub;
+
+    @BeforeEach
+    void setUp() {
+        // le seul thread de dispatch est bloqué: rien n'est écrit, les files se remplissent
+        dispatcher = Executors.newSingleThreadExecutor();
+        dispatcher.execute(() -> {
+            try {
+                socketBlocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        hub = new PushHub(registry, 4, 2, 60_000, dispatcher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        socketBlocked.countDown();
+        hub.destroy();
+    }
+
+    @Test
+    void slowConsumerIsDroppedWhenBufferIsFull() {
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        // "ready" + 3 events = buffer plein, le suivant déborde
+        for (int i = 0; i < 3; i++) {
+            hub.publish(1L, "task-changed", i);
+        }
+        assertTrue(hub.hasSubscribers(1L));
+        hub.publish(1L, "task-changed", 3);
+
+        assertFalse(hub.hasSubscribers(1L));
+        assertTrue(hub.hasSubscribers(2L));
+        assertEquals(1, hub.openStreams());
+        assertEquals(1.0, registry.counter("push.streams.dropped", "reason", "slow_consumer").count());
+    }
+
+    @Test
+    void oldestStreamMakesRoomForANewOne() {
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+
+        assertEquals(2, hub.openStreams());
+        assertEquals(1.0, registry.counter("push.streams.dropped", "reason", "too_many_streams").count());
+    }
+
+    // un onglet se ferme pendant qu'un autre s'ouvre: aucun flux ne doit finir hors de la map
+    @Test
+    void concurrentSubscribeAndCloseLeaveNoOrphanStream() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        PushHub busy = new PushHub(registry, 4, 2, 60_000, pool);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> done = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                done.add(clients.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 2_000; i++) {
+                        // flux fermé par le client: le prochain envoi échoue et le retire
+                        busy.subscribe(1L).complete();
+                        busy.publish(1L, "task-changed", i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : done) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+
+            // chaque flux fermé a été retiré (un flux orphelin ne reçoit plus rien et reste compté)
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (busy.openStreams() > 0 && System.currentTimeMillis() < deadline) {
+                busy.publish(1L, "task-changed", -1);
+                Thread.sleep(10);
+            }
+            assertEquals(0, busy.openStreams());
+            assertFalse(busy.hasSubscribers(1L));
+        } finally {
+            clients.shutdownNow();
+            busy.destroy();
+        }
+    }
+}
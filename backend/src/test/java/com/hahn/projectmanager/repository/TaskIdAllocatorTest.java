@@ -0,0 +1,91 @@
+package com.hahn.projectmanager.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.hahn.projectmanager.config.TaskIdGeneratorInitializer;
+import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.RegisterRequest;
+import com.hahn.projectmanager.entity.Task;
+import com.hahn.projectmanager.service.AuthService;
+import com.hahn.projectmanager.service.ProjectService;
+
+/**
+ * Task ids come in blocks of {@link Task#ID_ALLOCATION_SIZE} from id_generators, and the initializer moves
+ * next_val above the ids already in the tasks table.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TaskIdAllocatorTest {
+
+    private static final int BLOCK = Task.ID_ALLOCATION_SIZE;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Test
+    void idsAreHandedOutByBlocksAcrossTheBoundary() {
+        // allocateur à part: pas de bloc entamé en mémoire
+        TaskIdAllocator allocator = new TaskIdAllocator(dataSourceProperties);
+        try {
+            long start = nextVal();
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < 2 * BLOCK + 1; i++) {
+                ids.add(allocator.nextId());
+            }
+
+            // contigus d'un bloc à l'autre, un aller-retour en base par bloc seulement
+            assertEquals(LongStream.range(start, start + 2 * BLOCK + 1).boxed().toList(), ids);
+            assertEquals(start + 3 * BLOCK, nextVal());
+            allocator.nextId();
+            assertEquals(start + 3 * BLOCK, nextVal());
+        } finally {
+            allocator.destroy();
+        }
+    }
+
+    @Test
+    void initializerMovesNextValAboveExistingIds() {
+        long userId = authService.register(new RegisterRequest("ids-" + System.nanoTime() + "@test.dev", "pw", "Ids")).userId();
+        long projectId = projectService.createProject(userId, new ProjectCreateRequest("legacy", null)).getId();
+        long original = nextVal();
+        // ligne héritée de l'ancien IDENTITY, au-delà de ce que la table a distribué
+        long legacyId = original + 10 * BLOCK;
+        jdbcTemplate.update("insert into tasks (id, title, completed, version, project_id) values (?, 'legacy', false, 0, ?)",
+                legacyId, projectId);
+        try {
+            new TaskIdGeneratorInitializer(jdbcTemplate).afterSingletonsInstantiated();
+            assertEquals(legacyId + 1, nextVal());
+
+            // déjà au-dessus: inchangé
+            new TaskIdGeneratorInitializer(jdbcTemplate).afterSingletonsInstantiated();
+            assertEquals(legacyId + 1, nextVal());
+        } finally {
+            jdbcTemplate.update("delete from tasks where id = ?", legacyId);
+        }
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("select next_val from " + Task.ID_TABLE + " where name = ?",
+                Long.class, Task.ID_SEGMENT);
+    }
+}
@@ -0,0 +1,115 @@
+package com.hahn.projectmanager.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.hahn.projectmanager.exception.ApiError;
+import com.hahn.projectmanager.exception.GlobalExceptionHandler;
+import com.hahn.projectmanager.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Admission control on a 1 thread / 1 slot pool: the third hash is refused at once (429),
+ * the queued ones give up after the timeout (503), both with Retry-After and a rejected{reason} count.
+ */
+class PasswordHashExecutorTest {
+
+    private static final long TIMEOUT_MS = 1000;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SimpleMeterRegistry registry;
+    private PasswordHashExecutor hashes;
+
+    @BeforeEach
+    void setUp() {
+        // encode bloque le seul worker jusqu'à release
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        registry = new SimpleMeterRegistry();
+        hashes = new PasswordHashExecutor(blocking, registry, 1, 1, TIMEOUT_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hashes.destroy();
+    }
+
+    @Test
+    void fullQueueIsTooManyRequestsAndLongWaitIsUnavailable() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hashes.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hashes.encode("b"));
+        awaitQueued(1);
+
+        // worker occupé + file pleine: refus immédiat
+        ServiceBusyException full = assertThrows(ServiceBusyException.class, () -> hashes.encode("c"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, full.getStatus());
+        assertRetryAfter(full, 429);
+
+        // les deux appels acceptés attendent plus que le timeout
+        for (CompletableFuture<String> call : List.of(running, queued)) {
+            CompletionException failed = assertThrows(CompletionException.class, call::join);
+            ServiceBusyException busy = (ServiceBusyException) failed.getCause();
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, busy.getStatus());
+            assertRetryAfter(busy, 503);
+        }
+
+        assertEquals(1.0, rejected("queue_full"));
+        assertEquals(2.0, rejected("timeout"));
+    }
+
+    private void awaitQueued(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("auth.password.hash.queue").gauge().value() < size) {
+            assertTrue(System.nanoTime() < deadline, "hash never queued");
+            Thread.sleep(5);
+        }
+    }
+
+    private double rejected(String reason) {
+        return registry.get("auth.password.hash.rejected").tag("reason", reason).counter().count();
+    }
+
+    // réponse HTTP produite par le handler global
+    private static void assertRetryAfter(ServiceBusyException ex, int status) {
+        ResponseEntity<ApiError> res = new GlobalExceptionHandler()
+                .handleBusy(ex, new MockHttpServletRequest("POST", "/api/auth/login"));
+        assertEquals(status, res.getStatusCode().value());
+        assertEquals("1", res.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
@@ -0,0 +1,162 @@
+package com.hahn.projectmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.RegisterRequest;
+import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskUpdateRequest;
+import com.hahn.projectmanager.entity.Project;
+import com.hahn.projectmanager.exception.AccessDeniedException;
+import com.hahn.projectmanager.repository.ProjectRepository;
+import com.hahn.projectmanager.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Second-level cache: reads served without SQL, and never a stale owner, a deleted project
+ * or old counters after a write.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String email;
+    private long alice;
+    private long bob;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        email = "alice-" + System.nanoTime() + "@test.dev";
+        alice = authService.register(new RegisterRequest(email, "pw", "Alice")).userId();
+        bob = authService.register(new RegisterRequest("bob-" + System.nanoTime() + "@test.dev", "pw", "Bob")).userId();
+        projectId = projectService.createProject(alice, new ProjectCreateRequest("cached", null)).getId();
+    }
+
+    @Test
+    void userByEmailIsServedFromCache() {
+        userRepository.findByEmail(email).orElseThrow();
+        statistics.clear();
+
+        assertEquals(alice, userRepository.findByEmail(email).orElseThrow().getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+    }
+
+    @Test
+    void projectReadsAreServedFromCache() {
+        projectService.getMyProjectById(alice, projectId);
+        statistics.clear();
+
+        projectService.getMyProjectById(alice, projectId);
+        projectService.getMyProjectTag(alice, projectId);
+        taskService.getTasksTag(alice, projectId);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getDomainDataRegionStatistics(Project.CACHE_REGION).getHitCount());
+    }
+
+    @Test
+    void ownerChangeIsNeverServedStale() {
+        projectService.getMyProjectById(alice, projectId);
+        String aliceTag = projectService.getMyProjectTag(alice, projectId);
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            Project p = projectRepository.findById(projectId).orElseThrow();
+            p.setOwner(userRepository.getReferenceById(bob));
+        });
+
+        assertThrows(AccessDeniedException.class, () -> projectService.getMyProjectById(alice, projectId));
+        assertThrows(AccessDeniedException.class, () -> taskService.getTasks(alice, projectId));
+        assertNull(projectService.getMyProjectTag(alice, projectId));
+        assertEquals(projectId, projectService.getMyProjectById(bob, projectId).getId());
+        assertNotEquals(aliceTag, projectService.getMyProjectTag(bob, projectId));
+    }
+
+    @Test
+    void deleteIsNeverServedStale() {
+        projectService.getMyProjectById(alice, projectId);
+        taskService.getTasksTag(alice, projectId);
+
+        projectService.deleteMyProject(alice, projectId);
+
+        assertThrows(EntityNotFoundException.class, () -> projectService.getMyProjectById(alice, projectId));
+        assertThrows(EntityNotFoundException.class, () -> taskService.getTasks(alice, projectId));
+        assertNull(taskService.getTasksTag(alice, projectId));
+    }
+
+    // les compteurs changent par UPDATE natif (hors entité): seul ce project est évincé, jamais d'anciens compteurs
+    @Test
+    void counterUpdatesAreNeverServedStale() {
+        Project before = projectService.getMyProjectById(alice, projectId);
+        String tasksTag = taskService.getTasksTag(alice, projectId);
+
+        long taskId = taskService.addTask(alice, projectId, new TaskCreateRequest("t", null, null)).getId();
+        assertEquals(1, projectService.getMyProjectById(alice, projectId).getTotalTasks());
+        assertNotEquals(tasksTag, taskService.getTasksTag(alice, projectId));
+
+        taskService.toggleComplete(alice, projectId, taskId, null);
+        Project after = projectService.getMyProjectById(alice, projectId);
+        assertEquals(1, after.getCompletedTasks());
+        assertEquals(before.getTasksVersion() + 2, after.getTasksVersion());
+    }
+
+    @Test
+    void taskWriteLeavesOtherProjectsCached() {
+        long other = projectService.createProject(alice, new ProjectCreateRequest("untouched", null)).getId();
+        projectService.getMyProjectById(alice, other);
+        long bobsProject = projectService.createProject(bob, new ProjectCreateRequest("bob's", null)).getId();
+        projectService.getMyProjectById(bob, bobsProject);
+
+        long taskId = taskService.addTask(alice, projectId, new TaskCreateRequest("t", null, null)).getId();
+        taskService.toggleComplete(alice, projectId, taskId, null);
+        taskService.updateTask(alice, projectId, taskId, new TaskUpdateRequest("t2", null, null), null);
+        statistics.clear();
+
+        projectService.getMyProjectById(alice, other);
+        projectService.getMyProjectById(bob, bobsProject);
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getDomainDataRegionStatistics(Project.CACHE_REGION).getHitCount());
+
+        // le project écrit, lui, est relu avec ses nouveaux compteurs
+        Project written = projectService.getMyProjectById(alice, projectId);
+        assertEquals(1, written.getCompletedTasks());
+    }
+}
@@ -0,0 +1,109 @@
+package com.hahn.projectmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.RegisterRequest;
+import com.hahn.projectmanager.dto.TaskBulkUpdateItem;
+import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskSummary;
+import com.hahn.projectmanager.entity.Project;
+
+import jakarta.persistence.EntityNotFoundException;
+
+/**
+ * Bulk update / toggle / delete are all-or-nothing: one missing or foreign id and no row changes,
+ * counters and tasks version included.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TaskBulkTest {
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private long userId;
+    private long projectId;
+    private List<Long> ids;
+    private long foreignId;
+    private long otherUsersId;
+
+    @BeforeEach
+    void setUp() {
+        userId = register("bulk");
+        projectId = projectService.createProject(userId, new ProjectCreateRequest("bulk", null)).getId();
+        ids = taskService.addTasks(userId, projectId, List.of(task("a"), task("b"), task("c")))
+                .stream().map(TaskSummary::id).toList();
+        taskService.toggleTasks(userId, projectId, List.of(ids.get(0)));
+
+        // même user, autre project
+        long otherProject = projectService.createProject(userId, new ProjectCreateRequest("other", null)).getId();
+        foreignId = taskService.addTask(userId, otherProject, task("foreign")).getId();
+
+        long otherUser = register("intruder");
+        long theirProject = projectService.createProject(otherUser, new ProjectCreateRequest("theirs", null)).getId();
+        otherUsersId = taskService.addTask(otherUser, theirProject, task("theirs")).getId();
+    }
+
+    @Test
+    void updateWithAnUnknownIdChangesNothing() {
+        for (long bad : List.of(MISSING_ID, foreignId, otherUsersId)) {
+            assertUnchangedAfter(() -> taskService.updateTasks(userId, projectId, List.of(
+                    new TaskBulkUpdateItem(ids.get(0), "renamed", null, null),
+                    new TaskBulkUpdateItem(bad, "renamed", null, null),
+                    new TaskBulkUpdateItem(ids.get(2), "renamed", null, null))));
+        }
+    }
+
+    @Test
+    void toggleWithAnUnknownIdChangesNothing() {
+        for (long bad : List.of(MISSING_ID, foreignId, otherUsersId)) {
+            assertUnchangedAfter(() -> taskService.toggleTasks(userId, projectId, List.of(ids.get(0), ids.get(1), bad)));
+        }
+    }
+
+    @Test
+    void deleteWithAnUnknownIdChangesNothing() {
+        for (long bad : List.of(MISSING_ID, foreignId, otherUsersId)) {
+            assertUnchangedAfter(() -> taskService.deleteTasks(userId, projectId, List.of(bad, ids.get(0), ids.get(2))));
+        }
+    }
+
+    private void assertUnchangedAfter(Runnable bulk) {
+        List<TaskSummary> tasks = taskService.getTasks(userId, projectId);
+        Project before = projectService.getMyProjectById(userId, projectId);
+
+        assertThrows(EntityNotFoundException.class, bulk::run);
+
+        assertEquals(tasks, taskService.getTasks(userId, projectId));
+        Project after = projectService.getMyProjectById(userId, projectId);
+        assertEquals(3, after.getTotalTasks());
+        assertEquals(1, after.getCompletedTasks());
+        assertEquals(before.getTasksVersion(), after.getTasksVersion());
+    }
+
+    private long register(String name) {
+        return authService.register(new RegisterRequest(name + "-" + System.nanoTime() + "@test.dev", "pw", name)).userId();
+    }
+
+    private static TaskCreateRequest task(String title) {
+        return new TaskCreateRequest(title, null, null);
+    }
+}
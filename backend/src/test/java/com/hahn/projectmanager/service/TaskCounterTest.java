@@ -0,0 +1,122 @@
+package com.hahn.projectmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.hahn.projectmanager.dto.ProjectCreateRequest;
+import com.hahn.projectmanager.dto.RegisterRequest;
+import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.dto.TaskSummary;
+import com.hahn.projectmanager.entity.Project;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Project.totalTasks / completedTasks follow every task write (the progress read is a single row),
+ * and the reconciler repairs drift made behind the application's back.
+ */
+@SpringBootTest
+@ActiveProfiles({"embedded", "test"})
+class TaskCounterTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskCounterReconciler reconciler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private long userId;
+    private long projectId;
+
+    @BeforeEach
+    void setUp() {
+        userId = authService.register(new RegisterRequest("counters-" + System.nanoTime() + "@test.dev", "pw", "Counters")).userId();
+        projectId = projectService.createProject(userId, new ProjectCreateRequest("counters", null)).getId();
+    }
+
+    @Test
+    void countersFollowCreateToggleAndDelete() {
+        long a = taskService.addTask(userId, projectId, task("a")).getId();
+        long b = taskService.addTask(userId, projectId, task("b")).getId();
+        List<Long> bulk = taskService.addTasks(userId, projectId, List.of(task("c"), task("d"), task("e")))
+                .stream().map(TaskSummary::id).toList();
+        assertCounters(5, 0);
+
+        taskService.toggleComplete(userId, projectId, a, null);
+        taskService.toggleTasks(userId, projectId, bulk.subList(0, 2));
+        assertCounters(5, 3);
+
+        // retour à "non terminée"
+        taskService.toggleComplete(userId, projectId, a, null);
+        assertCounters(5, 2);
+
+        taskService.deleteTask(userId, projectId, b);
+        taskService.deleteTasks(userId, projectId, List.of(bulk.get(0)));
+        assertCounters(3, 1);
+    }
+
+    @Test
+    void reconcilerRepairsDriftAndBumpsTasksVersion() {
+        taskService.addTask(userId, projectId, task("a"));
+        long done = taskService.addTask(userId, projectId, task("b")).getId();
+        taskService.toggleComplete(userId, projectId, done, null);
+        long tasksVersion = project().getTasksVersion();
+
+        // SQL manuel: ni le service ni le cache de 2e niveau ne le voient
+        jdbcTemplate.update("update projects set total_tasks = 42, completed_tasks = 7 where id = ?", projectId);
+        entityManagerFactory.getCache().evict(Project.class);
+        assertCounters(42, 7);
+
+        long projectChanges = projectChanges();
+        assertTrue(reconciler.reconcile() >= 1);
+        entityManagerFactory.getCache().evict(Project.class);
+        assertCounters(2, 1);
+        // le tag des listes change: les clients en cache rechargent
+        assertEquals(tasksVersion + 1, project().getTasksVersion());
+        // et le delta sync renvoie le project corrigé
+        assertEquals(projectChanges + 1, projectChanges());
+
+        assertEquals(0, reconciler.reconcile());
+    }
+
+    private static TaskCreateRequest task(String title) {
+        return new TaskCreateRequest(title, null, null);
+    }
+
+    private Project project() {
+        return projectService.getMyProjectById(userId, projectId);
+    }
+
+    private long projectChanges() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from change_log where owner_id = ? and entity_type = 'PROJECT' and entity_id = ?",
+                Long.class, userId, projectId);
+    }
+
+    private void assertCounters(long total, long completed) {
+        Project p = project();
+        assertEquals(total, p.getTotalTasks(), "totalTasks");
+        assertEquals(completed, p.getCompletedTasks(), "completedTasks");
+    }
+}
@@ -0,0 +1,79 @@
+package com.hahn.projectmanager.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.hahn.projectmanager.dto.TaskCreateRequest;
+import com.hahn.projectmanager.service.impl.TaskTransferServiceImpl.CsvTaskIterator;
+
+class CsvTaskIteratorTest {
+
+    @Test
+    void quotedFieldsKeepCommasNewlinesAndDoubledQuotes() throws IOException {
+        List<TaskCreateRequest> rows = read("""
+                title,description,dueDate
+                "a, b","line 1
+                line 2",2026-01-31
+                "say ""hi""\",,
+                plain,"",\r
+                """);
+
+        assertEquals(List.of(
+                new TaskCreateRequest("a, b", "line 1\nline 2", LocalDate.of(2026, 1, 31)),
+                new TaskCreateRequest("say \"hi\"", null, null),
+                new TaskCreateRequest("plain", null, null)
+        ), rows);
+    }
+
+    @Test
+    void columnsAreResolvedByHeaderName() throws IOException {
+        // ordre de l'export, colonnes inconnues ignorées
+        assertEquals(List.of(new TaskCreateRequest("t", "d", null)),
+                read("id,title,description,dueDate,completed\n7,t,d,,true\n"));
+    }
+
+    @Test
+    void emptyInputHasNoRows() throws IOException {
+        assertFalse(new CsvTaskIterator(reader("")).hasNext());
+        assertFalse(new CsvTaskIterator(reader("title\n")).hasNext());
+    }
+
+    @Test
+    void missingTitleColumnIsRejected() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> new CsvTaskIterator(reader("name,description\nx,y\n")));
+        assertTrue(ex.getMessage().contains("'title'"));
+    }
+
+    @Test
+    void unterminatedQuoteFailsOnItsOwnRow() throws IOException {
+        CsvTaskIterator it = new CsvTaskIterator(reader("title\nok\n\"never closed\nstill open\n"));
+
+        // la ligne valide qui précède est rendue avant l'erreur
+        assertTrue(it.hasNext());
+        assertEquals("ok", it.next().title());
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, it::hasNext);
+        assertTrue(ex.getMessage().contains("Unterminated"));
+    }
+
+    private static List<TaskCreateRequest> read(String csv) throws IOException {
+        List<TaskCreateRequest> rows = new ArrayList<>();
+        new CsvTaskIterator(reader(csv)).forEachRemaining(rows::add);
+        return rows;
+    }
+
+    private static BufferedReader reader(String csv) {
+        return new BufferedReader(new StringReader(csv));
+    }
+}
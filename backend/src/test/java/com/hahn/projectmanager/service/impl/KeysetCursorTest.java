@@ -0,0 +1,46 @@
+package com.hahn.projectmanager.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.hahn.projectmanager.exception.BadRequestException;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        KeysetCursor byTitle = new KeysetCursor(KeysetCursor.SORT_TITLE, 42L, "a:b:c é");
+        assertEquals(byTitle, KeysetCursor.decode(byTitle.encode(), KeysetCursor.SORT_TITLE));
+
+        KeysetCursor byId = new KeysetCursor(KeysetCursor.SORT_ID, 7L, "");
+        assertEquals(byId, KeysetCursor.decode(byId.encode(), null));
+    }
+
+    @Test
+    void blankCursorStartsAtTheBeginning() {
+        assertEquals(KeysetCursor.start(KeysetCursor.SORT_ID), KeysetCursor.decode(null, null));
+        assertEquals(KeysetCursor.start(KeysetCursor.SORT_TITLE), KeysetCursor.decode(" ", "title"));
+    }
+
+    @Test
+    void rejectsBadCursorsAndSorts() {
+        String idCursor = new KeysetCursor(KeysetCursor.SORT_ID, 3L, "").encode();
+
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("%%not-base64%%", "id"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(encode("id:3"), "id"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(encode("id:x:"), "id"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(encode("id:-1:"), "id"));
+        // cursor d'un autre tri
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(idCursor, "title"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(null, "dueDate"));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
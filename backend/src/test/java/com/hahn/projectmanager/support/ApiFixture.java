@@ -0,0 +1,65 @@
+package com.hahn.projectmanager.support;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test data through the HTTP API, for the MockMvc tests:
+ * {@code String token = api.register("etag"); mockMvc.perform(get("/api/projects").with(bearer(token)))}.
+ */
+public final class ApiFixture {
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+
+    public ApiFixture(MockMvc mockMvc, ObjectMapper objectMapper) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+    }
+
+    public static RequestPostProcessor bearer(String token) {
+        return request -> {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+            return request;
+        };
+    }
+
+    /** Registers a new user (unique email per call) and returns its JWT. */
+    public String register(String name) throws Exception {
+        String email = name + "-" + System.nanoTime() + "@test.dev";
+        return json(mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"pw\",\"fullName\":\"" + name + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn()).get("token").asText();
+    }
+
+    public long createProject(String token, String title) throws Exception {
+        return json(mockMvc.perform(post("/api/projects").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn()).get("id").asLong();
+    }
+
+    public long createTask(String token, long projectId, String title) throws Exception {
+        return json(mockMvc.perform(post("/api/projects/" + projectId + "/tasks").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"" + title + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn()).get("id").asLong();
+    }
+
+    public JsonNode json(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
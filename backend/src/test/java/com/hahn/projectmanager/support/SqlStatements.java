@@ -0,0 +1,42 @@
+package com.hahn.projectmanager.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.hahn.projectmanager.metrics.RequestMetricsFilter;
+
+/**
+ * MockMvc matchers on the JDBC statements of one request (counted by RequestMetricsFilter):
+ * {@code mockMvc.perform(get(...)).andExpect(SqlStatements.count(2))}.
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    public static ResultMatcher count(int expected) {
+        return result -> assertEquals(expected, of(result),
+                () -> "SQL statements for " + describe(result));
+    }
+
+    public static ResultMatcher atMost(int max) {
+        return result -> {
+            int actual = of(result);
+            assertTrue(actual <= max, () -> "SQL statements for " + describe(result) + ": " + actual + " > " + max);
+        };
+    }
+
+    public static int of(MvcResult result) {
+        Object count = result.getRequest().getAttribute(RequestMetricsFilter.SQL_STATEMENTS_ATTRIBUTE);
+        assertNotNull(count, "no SQL count on the request: is RequestMetricsFilter in the MockMvc chain?");
+        return (Integer) count;
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}
@@ -1,6 +1,6 @@
 // src/api/endpoints.ts
 import { api } from './client';
-import type { AuthResponse, Page, Project, ProjectProgress, Task } from './types';
+import type { AgendaResponse, AuthResponse, ChangesResponse, Page, Project, ProjectProgress, Task, TaskChangedEvent, TaskSearchResponse } from './types';
 
 export async function login(email: string, password: string): Promise<AuthResponse> {
   const { data } = await api.post<AuthResponse>('/auth/login', { email, password });
@@ -77,6 +77,26 @@ export async function deleteTask(projectId: number, taskId: number): Promise<voi
   await api.delete(`/projects/${projectId}/tasks/${taskId}`);
 }
 
+/** Full-text search over all tasks of the current user (title + description), ranked. */
+export async function searchTasks(q: string, page = 0, size = 20): Promise<TaskSearchResponse> {
+  const { data } = await api.get<TaskSearchResponse>('/tasks/search', { params: { q, page, size } });
+  return data;
+}
+
+/** Incomplete tasks of all projects: overdue, due today, due within `days` (local date sent as `today`). */
+export async function getAgenda(days = 7): Promise<AgendaResponse> {
+  const now = new Date();
+  const today = `${now.getFullYear()}-${String(now.getMonth() + 1).padStart(2, '0')}-${String(now.getDate()).padStart(2, '0')}`;
+  const { data } = await api.get<AgendaResponse>('/tasks/agenda', { params: { days, today } });
+  return data;
+}
+
+/** Projects and tasks changed since `since` (omit it to get the current cursor with reset=true). */
+export async function getChanges(since?: string, limit?: number): Promise<ChangesResponse> {
+  const { data } = await api.get<ChangesResponse>('/changes', { params: { since, limit } });
+  return data;
+}
+
 export function calcProgressFromTasks(tasks: Task[]): ProjectProgress {
   const total = tasks.length;
   const done = tasks.filter((t) => !!t.completed).length;
@@ -112,6 +132,56 @@ export async function getProgress(projectId: number): Promise<ProjectProgress> {
   }
 }
 
+/**
+ * Progress of many projects in a single request (one GROUP BY on the backend).
+ * Projects missing from the response (not owned / deleted) are simply absent from the map.
+ * Falls back to one call per project if the batch endpoint is not available.
+ */
+export async function getProgressBatch(projectIds: number[]): Promise<Record<number, ProjectProgress>> {
+  const map: Record<number, ProjectProgress> = {};
+  if (projectIds.length === 0) return map;
+
+  try {
+    const { data } = await api.get<any[]>('/projects/progress', {
+      params: { ids: projectIds.join(',') }
+    });
+    for (const row of data ?? []) {
+      const total = Number(row?.totalTasks ?? 0) || 0;
+      const done = Number(row?.completedTasks ?? 0) || 0;
+      const pct = Math.max(0, Math.min(100, Number(row?.progressPercentage ?? 0)));
+      map[Number(row.projectId)] = { total, done, pct };
+    }
+  } catch {
+    const entries = await Promise.all(projectIds.map(async (id) => [id, await getProgress(id)] as const));
+    for (const [id, pr] of entries) map[id] = pr;
+  }
+  return map;
+}
+
+/**
+ * Server push of task and progress changes (EventSource reconnects by itself).
+ * EventSource cannot send headers: the JWT goes in the query string. Returns the close function.
+ */
+export function subscribeToPush(handlers: {
+  onTaskChanged?: (e: TaskChangedEvent) => void;
+  onProgressChanged?: (projectId: number, progress: ProjectProgress) => void;
+}): () => void {
+  const token = localStorage.getItem('taskflow_token');
+  if (!token || typeof EventSource === 'undefined') return () => {};
+
+  const base = api.defaults.baseURL ?? '/api';
+  const source = new EventSource(`${base}/push/stream?access_token=${encodeURIComponent(token)}`);
+  source.addEventListener('task-changed', (e) => handlers.onTaskChanged?.(JSON.parse((e as MessageEvent).data)));
+  source.addEventListener('progress-changed', (e) => {
+    const row = JSON.parse((e as MessageEvent).data);
+    const total = Number(row?.totalTasks ?? 0) || 0;
+    const done = Number(row?.completedTasks ?? 0) || 0;
+    const pct = Math.max(0, Math.min(100, Number(row?.progressPercentage ?? 0)));
+    handlers.onProgressChanged?.(Number(row.projectId), { total, done, pct });
+  });
+  return () => source.close();
+}
+
 // Aliases for backward compatibility
 export const getMyProjects = getProjects;
 export const getProjectProgressSafe = getProgress;
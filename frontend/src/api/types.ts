@@ -36,3 +36,65 @@ export type Page<T> = {
   last?: boolean;
   numberOfElements?: number;
 };
+
+export type TaskSearchHit = {
+  id: number;
+  projectId: number;
+  title: string;
+  dueDate?: string | null;
+  completed: boolean;
+  score: number;
+};
+
+export type TaskSearchResponse = {
+  query: string;
+  hits: TaskSearchHit[];
+  totalHits: number;
+  page: number;
+  size: number;
+  tookMs: number;
+};
+
+export type AgendaItem = {
+  id: number;
+  title: string;
+  dueDate: string;
+  projectId: number;
+  projectTitle: string;
+};
+
+export type AgendaResponse = {
+  today: string;
+  days: number;
+  overdue: AgendaItem[];
+  dueToday: AgendaItem[];
+  upcoming: AgendaItem[];
+  truncated: boolean;
+};
+
+export type ProjectSummary = Project & {
+  totalTasks: number;
+  completedTasks: number;
+};
+
+export type TaskSummary = Task & {
+  projectId: number;
+};
+
+// delta sync: current state of what changed since the cursor
+export type ChangesResponse = {
+  cursor: string;
+  reset: boolean; // cursor unknown or compacted: reload the lists, then sync from cursor
+  hasMore: boolean;
+  projects: ProjectSummary[];
+  tasks: TaskSummary[];
+  deletedProjectIds: number[];
+  deletedTaskIds: number[];
+};
+
+// SSE "task-changed" (GET /api/push/stream)
+export type TaskChangedEvent = {
+  projectId: number;
+  taskIds: number[];
+  deleted: boolean;
+};
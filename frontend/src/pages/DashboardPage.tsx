@@ -33,7 +33,7 @@ import GlassCard from "../components/GlassCard";
 import ProgressBar from "../components/ProgressBar";
 import StatCard from "../components/StatCard";
 import PaginationBar from "../components/PaginationBar";
-import { getProjectsPaged, createProject, getProjectProgressSafe } from "../api/endpoints";
+import { getProjectsPaged, createProject, getProgressBatch, subscribeToPush } from "../api/endpoints";
 import type { Project, ProjectProgress } from "../api/types";
 import { useNavigate } from "react-router-dom";
 
@@ -68,16 +68,7 @@ export default function DashboardPage() {
       setPage(paged.number ?? nextPage);
       setPageSize(paged.size ?? nextSize);
 
-      const entries = await Promise.all(
-        list.map(async (p) => {
-          const pr = await getProjectProgressSafe(p.id);
-          return [p.id, pr] as const;
-        })
-      );
-
-      const map: Record<number, ProjectProgress> = {};
-      for (const [id, pr] of entries) map[id] = pr;
-      setProgress(map);
+      setProgress(await getProgressBatch(list.map((p) => p.id)));
     } catch (e: any) {
       setErr(e?.message || "Network error");
     } finally {
@@ -90,6 +81,12 @@ export default function DashboardPage() {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
+  // progress pushed by the server instead of re-polling every project
+  useEffect(() => subscribeToPush({
+    onProgressChanged: (projectId, pr) =>
+      setProgress((prev) => (projectId in prev ? { ...prev, [projectId]: pr } : prev)),
+  }), []);
+
   // Note: search/filter are client-side on the *current page*.
   // (Backend pagination doesn't currently expose search params.)
   const searched = useMemo(() => {
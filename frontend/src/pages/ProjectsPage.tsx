@@ -23,7 +23,7 @@ import GlassCard from '../components/GlassCard';
 import ProgressBar from '../components/ProgressBar';
 import StatCard from '../components/StatCard';
 import PaginationBar from '../components/PaginationBar';
-import { createProject, getMyProjects, getProjectProgressSafe } from '../api/endpoints';
+import { createProject, getMyProjects, getProgressBatch } from '../api/endpoints';
 import type { Project, ProjectProgress } from '../api/types';
 
 type ProjectFilter = 'all' | 'active' | 'completed' | 'empty';
@@ -55,16 +55,7 @@ export default function ProjectsPage() {
       setProjects(list);
       setPage(0);
 
-      const entries = await Promise.all(
-        list.map(async (p) => {
-          const pr = await getProjectProgressSafe(p.id);
-          return [p.id, pr] as const;
-        })
-      );
-
-      const map: Record<number, ProjectProgress> = {};
-      for (const [id, pr] of entries) map[id] = pr;
-      setProgress(map);
+      setProgress(await getProgressBatch(list.map((p) => p.id)));
     } catch (e: any) {
       setErr(e?.message || 'Network error');
     } finally {